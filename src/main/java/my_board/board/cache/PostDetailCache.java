@@ -0,0 +1,136 @@
+package my_board.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import my_board.board.dto.PostDetailDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회 캐시
+ * 외부에 공유된 인기 게시글처럼 같은 글이 반복 조회될 때 DB 조회를 줄이기 위한 로컬(JVM 내) 캐시
+ *
+ * - 최대 크기 / TTL 기반으로 자동 제거 (Caffeine)
+ * - 같은 ID에 대해 동시에 캐시 미스가 나도 DB 조회는 한 번만 수행 (나머지 요청은 결과를 기다림)
+ * - 게시글 수정/삭제 시 invalidate()로 제거
+ * - 조회수 반영 시 addViewCount()로 캐시된 값의 조회수만 갱신 (TTL은 처음 저장 시점 기준 유지)
+ * - 히트/미스/제거 횟수 통계 제공 (크기 조정용), 메트릭 cache="post-detail"
+ */
+@Component
+public class PostDetailCache implements MeterBinder {
+
+    private final Cache<Long, PostDetailDto> cache;
+
+    /**
+     * @param maxSize    최대 보관 게시글 수
+     * @param ttlSeconds 저장 후 유효 시간 (초)
+     */
+    public PostDetailCache(
+            @Value("${board.cache.post-detail.max-size:10000}") long maxSize,
+            @Value("${board.cache.post-detail.ttl-seconds:300}") long ttlSeconds
+    ) {
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, PostDetailDto>() {
+                    @Override
+                    public long expireAfterCreate(Long id, PostDetailDto post, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    // 조회수 갱신은 남은 유효 시간을 늘리지 않음 (다른 인스턴스의 수정도 TTL 안에 반영되도록)
+                    @Override
+                    public long expireAfterUpdate(Long id, PostDetailDto post, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, PostDetailDto post, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 메트릭 등록 (cache.gets, cache.size, cache.evictions 등)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "post-detail");
+    }
+
+    /**
+     * 캐시에서 게시글 상세를 조회하고, 없으면 loader로 불러와 저장
+     * 같은 ID로 동시에 들어온 요청들은 하나의 loader 호출 결과를 함께 사용
+     *
+     * @param id     게시글 ID
+     * @param loader 캐시 미스 시 DB에서 조회하는 함수 (게시글이 없으면 null 반환, null은 캐시하지 않음)
+     * @return 게시글 상세, 없으면 null
+     */
+    public PostDetailDto get(Long id, Function<Long, PostDetailDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 캐시된 게시글 상세의 조회수에 DB에 반영된 조회수를 더함 (캐시에 없으면 무시)
+     * 반영할 때마다 제거하면 인기 게시글이 반영 주기마다 DB에서 다시 읽히므로 값만 갱신
+     *
+     * @param id    게시글 ID
+     * @param delta DB에 반영된 조회수
+     */
+    public void addViewCount(Long id, long delta) {
+        cache.asMap().computeIfPresent(id, (key, post) -> post.withViewCount(post.getViewCount() + delta));
+    }
+
+    /**
+     * 게시글 캐시 제거
+     * 즉시 제거하고, 트랜잭션 안이라면 커밋/롤백 이후에 한 번 더 제거
+     * (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+     *
+     * @param id 게시글 ID
+     */
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 현재 크기, 히트/미스/제거 횟수, 히트율, 평균 로딩 시간
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loadCount", stats.loadCount());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+}
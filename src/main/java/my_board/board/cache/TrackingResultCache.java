@@ -0,0 +1,173 @@
+package my_board.board.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import my_board.board.service.TrackingStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 택배 조회 결과 캐시
+ * 여러 사용자가 같은 (택배사, 송장번호)를 몇 초 간격으로 조회할 때 외부 API 호출을 줄이기 위한 로컬 캐시
+ *
+ * - 배송 완료(최종 상태)는 긴 TTL, 배송 중/조회 실패는 짧은 TTL로 보관
+ * - 같은 키에 대한 동시 조회는 먼저 들어온 요청 하나만 외부 API를 호출하고 나머지는 그 결과를 기다림
+ * - 외부 API 호출이 실패하면 캐시에 남기지 않음 (다음 요청이 다시 호출)
+ * - 응답 본문은 디코딩하지 않은 바이트 그대로 보관하여 응답에 그대로 씀
+ * - 메트릭 cache="tracking" (다른 캐시와 같은 cache.gets / cache.size 이름 사용)
+ */
+@Component
+public class TrackingResultCache implements MeterBinder {
+
+    private final AsyncCache<TrackingKey, byte[]> cache;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 통계: 캐시 히트 / 다른 요청의 조회 결과를 기다린 횟수 / 외부 API 호출(미스)
+     */
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param objectMapper          응답 JSON 파서 (배송 상태 판별용)
+     * @param maxSize               최대 보관 건수
+     * @param finalTtlSeconds       배송 완료 결과 유효 시간 (초)
+     * @param inTransitTtlSeconds   배송 중/조회 실패 결과 유효 시간 (초)
+     */
+    public TrackingResultCache(
+            ObjectMapper objectMapper,
+            @Value("${board.cache.tracking.max-size:50000}") long maxSize,
+            @Value("${board.cache.tracking.final-ttl-seconds:3600}") long finalTtlSeconds,
+            @Value("${board.cache.tracking.in-transit-ttl-seconds:30}") long inTransitTtlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        long finalTtlNanos = TimeUnit.SECONDS.toNanos(finalTtlSeconds);
+        long inTransitTtlNanos = TimeUnit.SECONDS.toNanos(inTransitTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<TrackingKey, byte[]>() {
+                    @Override
+                    public long expireAfterCreate(TrackingKey key, byte[] body, long currentTime) {
+                        TrackingStatus status = TrackingStatus.parse(objectMapper, body);
+                        return status.isFinal() && !status.isError() ? finalTtlNanos : inTransitTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TrackingKey key, byte[] body, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, body, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TrackingKey key, byte[] body, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+    }
+
+    /**
+     * 캐시에서 조회 결과를 가져오고, 없으면 loader로 외부 API를 호출
+     * 외부 API 호출은 호출한 요청 스레드에서 실행됨 (별도 스레드 풀 없음)
+     *
+     * @param carrierCode   택배사 코드
+     * @param invoiceNumber 송장번호
+     * @param loader        외부 API 호출 함수
+     * @return 조회 결과 JSON (UTF-8 바이트, 호출자는 수정하지 말 것)
+     */
+    public byte[] get(String carrierCode, String invoiceNumber, Supplier<byte[]> loader) {
+        TrackingKey key = new TrackingKey(carrierCode.trim(), invoiceNumber.trim());
+
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = cache.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            if (existing.isDone()) {
+                hitCount.increment();
+            } else {
+                coalescedCount.increment();
+            }
+            return await(existing);
+        }
+
+        // 이 요청이 외부 API를 호출하는 대표 요청
+        missCount.increment();
+        try {
+            mine.complete(loader.get());
+        } catch (RuntimeException e) {
+            // 실패한 Future는 캐시에서 자동 제거되고, 기다리던 요청에도 같은 예외 전달
+            mine.completeExceptionally(e);
+        }
+        return await(mine);
+    }
+
+    /**
+     * 캐시 메트릭 등록
+     * 다른 요청의 조회 결과를 기다린 경우(coalesced)는 외부 API를 호출하지 않으므로 히트로 분류
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+                .tags("cache", "tracking", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", coalescedCount, LongAdder::sum)
+                .tags("cache", "tracking", "result", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+                .tags("cache", "tracking", "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> c.synchronous().estimatedSize())
+                .tag("cache", "tracking")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 현재 크기, 히트/대기/미스 횟수, 히트율
+     */
+    public Map<String, Object> stats() {
+        long hits = hitCount.sum();
+        long coalesced = coalescedCount.sum();
+        long misses = missCount.sum();
+        long total = hits + coalesced + misses;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hitCount", hits);
+        result.put("coalescedCount", coalesced);
+        result.put("missCount", misses);
+        result.put("hitRate", total == 0 ? 0.0 : (hits + coalesced) / (double) total);
+        return result;
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 키 (택배사 코드, 송장번호)
+     */
+    private record TrackingKey(String carrierCode, String invoiceNumber) {
+    }
+}
@@ -1,14 +1,17 @@
 package my_board.board.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import my_board.board.jwt.JwtTokenProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import java.io.IOException;
+import java.util.List;
 
 
 /**
@@ -51,11 +54,16 @@ public class JwtAuthenticationFilter extends GenericFilter {
         String token = resolveToken(httpRequest);
 
         // 3) 토큰이 존재하고 유효한 경우 인증 객체 생성 및 SecurityContext에 설정
-        if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 검증과 claims 추출을 한 번에 처리 (이미 검증된 토큰은 캐시에서 조회)
+        Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.resolveClaims(token) : null;
+        if(claims != null) {
             // 토큰에서 사용자 이메일 추출
-            String email = jwtTokenProvider.getEmail(token);
-            // 인증 객체 생성 (principal: 이메일, credentials: null, authorities: null)
-            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(email, null, null);
+            String email = claims.getSubject();
+            // 토큰의 role claim을 권한으로 사용 (예: ROLE_ADMIN -> /api/admin/** 접근 가능)
+            String role = claims.get("role", String.class);
+            // 인증 객체 생성 (principal: 이메일, credentials: null, authorities: role)
+            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                    email, null, StringUtils.hasText(role) ? List.of(new SimpleGrantedAuthority(role)) : List.of());
             // SecurityContext에 인증 정보 설정
             SecurityContextHolder.getContext().setAuthentication(auth);
         } else {
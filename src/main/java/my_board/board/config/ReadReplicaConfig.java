@@ -0,0 +1,120 @@
+package my_board.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정 (board.datasource.routing.enabled=true일 때만)
+ *
+ * - 주 DB: spring.datasource.* (커넥션 풀 설정은 spring.datasource.hikari.*)
+ * - 복제본: board.datasource.routing.replica-urls (쉼표로 구분, 계정은 주 DB와 같음)
+ * - @Transactional(readOnly = true) 트랜잭션은 복제본, 나머지는 주 DB (ReplicaRouter)
+ *
+ * DataSource 빈은 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource) 하나만 등록되며
+ * 느린 쿼리 로그 프록시(SlowQueryLogConfig)도 이 빈을 감싸므로 복제본 SQL도 기록됨
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * @param replicaUrls       복제본 JDBC URL 목록
+     * @param replicaUsername   복제본 계정 (기본값: spring.datasource.username)
+     * @param replicaPassword   복제본 비밀번호 (기본값: spring.datasource.password)
+     * @param replicaPoolSize   복제본별 최대 커넥션 수
+     * @param connectionTimeout 복제본 커넥션 대기 시간 (짧게 두고 실패 시 주 DB로 대체)
+     * @param stickyMillis      쓰기 후 주 DB에서 읽는 시간
+     * @param stickyMaxUsers    쓰기 후 읽기를 추적할 최대 사용자 수
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRouter replicaRouter(
+            DataSourceProperties properties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${board.datasource.routing.replica-urls:}") List<String> replicaUrls,
+            @Value("${board.datasource.routing.replica-username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${board.datasource.routing.replica-password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${board.datasource.routing.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${board.datasource.routing.replica-connection-timeout-millis:1000}") long connectionTimeout,
+            @Value("${board.datasource.routing.sticky-millis:5000}") long stickyMillis,
+            @Value("${board.datasource.routing.sticky-max-users:100000}") long stickyMaxUsers
+    ) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRouter.PRIMARY);
+        if (registry != null) {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            if (properties.getDriverClassName() != null) {
+                replica.setDriverClassName(properties.getDriverClassName());
+            }
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(connectionTimeout);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 시작 (상태 검사에서 제외됨)
+            replica.setInitializationFailTimeout(-1);
+            if (registry != null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            replicas.add(replica);
+        }
+
+        return new ReplicaRouter(primary, replicas,
+                new ReadYourWritesTracker(stickyMillis, stickyMaxUsers), ReadReplicaConfig::currentUser);
+    }
+
+    /**
+     * 애플리케이션 DataSource
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어야 readOnly 여부로 대상을 고를 수 있음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter replicaRouter) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaRouter));
+    }
+
+    /**
+     * 현재 인증된 사용자 이메일 (JwtAuthenticationFilter에서 설정, 비로그인/스케줄러 작업은 null)
+     */
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
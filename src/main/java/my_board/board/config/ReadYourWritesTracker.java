@@ -0,0 +1,50 @@
+package my_board.board.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 읽기 일관성(read-your-writes) 추적
+ * 사용자가 쓰기 트랜잭션을 커밋하면 sticky 시간 동안 그 사용자의 읽기 전용 트랜잭션도 주 DB로 보냄
+ * (복제 지연 때문에 방금 쓴 글이 목록/상세에 보이지 않는 문제 방지)
+ *
+ * - 사용자별 마지막 쓰기 기록은 Caffeine 캐시에 sticky 시간 동안만 유지 (최대 개수 제한)
+ * - 인스턴스 메모리에만 기록하므로 여러 인스턴스로 요청이 분산되면 다른 인스턴스에서는 적용되지 않음
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * @param stickyMillis 쓰기 후 주 DB에서 읽는 시간 (복제 지연보다 길게)
+     * @param maxUsers     기록할 최대 사용자 수
+     */
+    public ReadYourWritesTracker(long stickyMillis, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickyMillis))
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /**
+     * 쓰기 커밋 기록
+     *
+     * @param user 사용자 (null이면 무시)
+     */
+    public void recordWrite(String user) {
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 최근에 쓰기를 커밋한 사용자인지 확인
+     *
+     * @param user 사용자 (null이면 false)
+     */
+    public boolean isSticky(String user) {
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+}
@@ -0,0 +1,267 @@
+package my_board.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 주 DB / 읽기 전용 복제본(replica) 선택
+ * ReplicaRoutingDataSource가 실제 커넥션을 얻는 시점마다 lookupKey()로 대상을 정함
+ *
+ * 선택 규칙:
+ * 0. primaryOnly()로 실행 중이면 주 DB
+ * 1. 읽기 전용 트랜잭션(@Transactional(readOnly = true))이 아니면 주 DB
+ *    (쓰기 트랜잭션이 커밋되면 현재 사용자를 ReadYourWritesTracker에 기록)
+ * 2. 최근에 쓰기를 커밋한 사용자면 주 DB (read-your-writes)
+ * 3. 정상 상태인 복제본 중 라운드 로빈으로 선택
+ * 4. 정상 복제본이 없으면 주 DB
+ *
+ * 복제본 상태는 health-check-interval-millis마다 커넥션 검사로 갱신하며,
+ * 커넥션을 얻지 못한 복제본은 다음 검사까지 선택하지 않음
+ */
+@Slf4j
+public class ReplicaRouter implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    /**
+     * 트랜잭션마다 쓰기 기록 콜백을 한 번만 등록하기 위한 리소스 키
+     */
+    private static final Object WRITE_MARKER = new Object();
+
+    /**
+     * primaryOnly() 실행 중 여부 (라우팅 비활성화 시에는 사용되지 않음)
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * 현재 요청 사용자 (인증되지 않았으면 null)
+     */
+    private final Supplier<String> currentUser;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder stickyRoutes = new LongAdder();
+    private final LongAdder fallbackRoutes = new LongAdder();
+
+    public ReplicaRouter(DataSource primary, List<DataSource> replicas,
+                         ReadYourWritesTracker readYourWritesTracker, Supplier<String> currentUser) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentUser = currentUser;
+    }
+
+    /**
+     * 이번 커넥션을 얻을 대상 선택
+     *
+     * @return PRIMARY 또는 복제본 이름 (replica-0, replica-1, ...)
+     */
+    public String lookupKey() {
+        if (PRIMARY_ONLY.get() != null) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker();
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        if (readYourWritesTracker.isSticky(currentUser.get())) {
+            stickyRoutes.increment();
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        if (size == 0) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                replica.routes.increment();
+                return replica.name;
+            }
+        }
+        fallbackRoutes.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서도 주 DB에서 읽어야 하는 조회 실행 (예: 여러 사용자에게 공유되는 캐시 채우기)
+     * 커넥션은 첫 SQL 실행 시점에 정해지므로 트랜잭션의 첫 조회이거나 트랜잭션 밖에서 호출해야 함
+     * 복제본 라우팅을 사용하지 않으면 action을 그대로 실행
+     *
+     * @param action 주 DB에서 실행할 조회
+     * @return action 결과
+     */
+    public static <T> T primaryOnly(Supplier<T> action) {
+        if (PRIMARY_ONLY.get() != null) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 현재 사용자를 기록 (트랜잭션당 한 번 등록)
+     * 실제로 커넥션을 사용한 트랜잭션만 기록되며, 롤백되면 기록하지 않음
+     */
+    private void registerWriteMarker() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        String user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(user);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    /**
+     * 복제본에서 커넥션을 얻지 못한 경우 다음 상태 검사까지 제외
+     *
+     * @param name 복제본 이름
+     */
+    public void markDown(String name, SQLException cause) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(name) && replica.healthy) {
+                replica.healthy = false;
+                log.warn("복제본 {} 연결 실패, 주 DB로 대체: {}", name, cause.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제본 상태 검사 (기본 5초 간격)
+     */
+    @Scheduled(
+            initialDelayString = "${board.datasource.routing.health-check-interval-millis:5000}",
+            fixedDelayString = "${board.datasource.routing.health-check-interval-millis:5000}"
+    )
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.info("복제본 {} 상태 변경: {}", replica.name, healthy ? "정상" : "장애");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * 이름 -> 복제본 DataSource
+     */
+    Map<String, DataSource> getReplicas() {
+        Map<String, DataSource> result = new LinkedHashMap<>();
+        replicas.forEach(replica -> result.put(replica.name, replica.dataSource));
+        return result;
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 주 DB / read-your-writes / 대체 선택 수, 복제본별 상태와 선택 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> replicaStats = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("healthy", replica.healthy);
+            stat.put("routes", replica.routes.sum());
+            replicaStats.put(replica.name, stat);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("primaryRoutes", primaryRoutes.sum());
+        result.put("stickyRoutes", stickyRoutes.sum());
+        result.put("fallbackRoutes", fallbackRoutes.sum());
+        result.put("replicas", replicaStats);
+        return result;
+    }
+
+    /**
+     * 커넥션 풀 종료
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 복제본 하나의 상태
+     */
+    private static class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+        final LongAdder routes = new LongAdder();
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
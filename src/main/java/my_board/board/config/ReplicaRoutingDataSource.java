@@ -0,0 +1,66 @@
+package my_board.board.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ * 대상 선택은 ReplicaRouter가 담당하며, 복제본 커넥션을 얻지 못하면 해당 복제본을 제외하고 주 DB로 대체
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 커넥션을 얻도록 해야 함
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+        Map<Object, Object> targets = new HashMap<>(router.getReplicas());
+        targets.put(ReplicaRouter.PRIMARY, router.getPrimary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(router.getPrimary());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.lookupKey();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = router.lookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (ReplicaRouter.PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            router.markDown(key, e);
+            return router.getPrimary().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String key = router.lookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (ReplicaRouter.PRIMARY.equals(key)) {
+            return target.getConnection(username, password);
+        }
+        try {
+            return target.getConnection(username, password);
+        } catch (SQLException e) {
+            router.markDown(key, e);
+            return router.getPrimary().getConnection(username, password);
+        }
+    }
+}
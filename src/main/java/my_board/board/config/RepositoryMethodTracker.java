@@ -0,0 +1,47 @@
+package my_board.board.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 현재 스레드에서 실행 중인 Repository 메서드 추적
+ * 느린 쿼리 로그에 어떤 Repository 메서드가 실행한 SQL인지 함께 남기기 위해 사용
+ * (SlowQueryLogConfig에서 모든 Spring Data Repository 프록시에 인터셉터로 추가)
+ */
+public final class RepositoryMethodTracker {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodTracker() {
+    }
+
+    /**
+     * 현재 실행 중인 Repository 메서드 (예: "PostRepository.findSummaryFirstPage"), 없으면 null
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Repository 메서드 호출 동안 메서드 이름을 기록하는 인터셉터
+     *
+     * @param repositoryInterface Repository 인터페이스
+     */
+    static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+        String prefix = repositoryInterface.getSimpleName() + ".";
+        return (MethodInvocation invocation) -> {
+            String previous = CURRENT.get();
+            // 중첩 호출(Repository 기본 메서드가 다른 메서드 호출)은 바깥 메서드를 유지
+            if (previous == null) {
+                CURRENT.set(prefix + invocation.getMethod().getName());
+            }
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+}
@@ -1,7 +1,17 @@
 package my_board.board.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -11,6 +21,9 @@ import org.springframework.web.client.RestTemplate;
  * - Spring에서 제공하는 HTTP 클라이언트
  * - 외부 API 호출에 사용
  * - 동기 방식 통신 지원
+ *
+ * 기본 RestTemplate은 연결 풀과 타임아웃이 없어 외부 API가 느려지면 요청 스레드가 무한정 묶이므로
+ * Apache HttpClient 5 연결 풀(Keep-Alive 재사용)과 연결/응답/풀 대기 타임아웃을 설정
  */
 @Configuration
 public class RestTemplateConfig {
@@ -18,10 +31,54 @@ public class RestTemplateConfig {
     /**
      * RestTemplate 빈 등록
      * Bean으로 등록하여 애플리케이션 전역에서 재사용
+     *
+     * @param maxConnections        전체 최대 연결 수
+     * @param maxConnectionsPerRoute 호스트당 최대 연결 수
+     * @param connectTimeoutMillis  연결 타임아웃 (밀리초)
+     * @param readTimeoutMillis     응답 타임아웃 (밀리초)
+     * @param poolWaitMillis        연결 풀에서 연결을 기다리는 최대 시간 (밀리초)
+     * @param idleEvictSeconds      유휴 연결 정리 기준 (초)
      * @return RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            @Value("${smarttracker.http.max-connections:100}") int maxConnections,
+            @Value("${smarttracker.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${smarttracker.http.connect-timeout-millis:1000}") long connectTimeoutMillis,
+            @Value("${smarttracker.http.read-timeout-millis:3000}") long readTimeoutMillis,
+            @Value("${smarttracker.http.pool-wait-millis:500}") long poolWaitMillis,
+            @Value("${smarttracker.http.idle-evict-seconds:30}") long idleEvictSeconds
+    ) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient(
+                maxConnections, maxConnectionsPerRoute, connectTimeoutMillis,
+                readTimeoutMillis, poolWaitMillis, idleEvictSeconds)));
+    }
+
+    /**
+     * 연결 풀 기반 HTTP 클라이언트 생성
+     * 테스트에서 같은 설정으로 클라이언트를 만들 수 있도록 static으로 분리
+     */
+    public static CloseableHttpClient httpClient(int maxConnections, int maxConnectionsPerRoute,
+                                                 long connectTimeoutMillis, long readTimeoutMillis,
+                                                 long poolWaitMillis, long idleEvictSeconds) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
     }
 }
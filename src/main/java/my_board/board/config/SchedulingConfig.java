@@ -0,0 +1,13 @@
+package my_board.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * @Scheduled 메서드(만료 토큰 정리 등) 실행을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,9 @@
 package my_board.board.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import my_board.board.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,6 +37,13 @@ public class SecurityConfig {
      */
     private final JwtTokenProvider jwtTokenProvider;
 
+    /**
+     * Actuator 전용 포트 (management.server.port, 설정하지 않으면 -1)
+     * 이 포트는 내부망에서만 접근 가능하다고 보고 인증 없이 허용 (Prometheus 스크레이프)
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * CORS(Cross-Origin Resource Sharing) 설정
      * 프론트엔드(로컬포트 > 5173)에서 백엔드 API 호출을 허용하기 위한 설정
@@ -80,6 +89,12 @@ public class SecurityConfig {
                         .requestMatchers("/api/users/login", "/api/users/register", "/api/users/check-nickname", "/api/users/reissue").permitAll()
                         // 게시글 조회는 인증 없이 가능
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                        // Actuator 전용 포트로 들어온 요청 (메트릭 수집)
+                        .requestMatchers(this::isManagementPort).permitAll()
+                        // 상태 확인
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        // 데이터 가져오기/내보내기, 운영 통계/메트릭 등 관리자 기능
+                        .requestMatchers("/api/admin/**", "/api/monitoring/**", "/actuator/**").hasRole("ADMIN")
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -87,6 +102,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Actuator 전용 포트로 들어온 요청인지 확인
+     */
+    private boolean isManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
      * BCrypt 해시 알고리즘을 사용하여 안전하게 비밀번호를 저장
@@ -0,0 +1,132 @@
+package my_board.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 쿼리 로그 리스너 (JDBC 프록시)
+ * 모든 SQL의 실행 시간을 측정하고
+ * - 기준 시간 이상 걸린 SQL: WARN 로그 (SQL, 바인드 파라미터, 호출한 Repository 메서드, 실행 시간)
+ * - 기준 시간 미만 SQL: sample-rate 비율로만 INFO 로그 (0이면 기록하지 않음)
+ *
+ * 로그는 비동기 appender(logback-spring.xml)로 출력되므로 요청 스레드에서 콘솔 출력을 기다리지 않음
+ */
+@Slf4j
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private final long thresholdMillis;
+
+    private final double sampleRate;
+
+    /**
+     * 로그에 남길 파라미터 값 최대 길이 (긴 본문 등은 잘라냄)
+     */
+    private final int maxParameterLength;
+
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final LongAdder sampledCount = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    /**
+     * @param thresholdMillis    느린 쿼리 기준 시간 (밀리초)
+     * @param sampleRate         기준 미만 쿼리를 기록할 비율 (0 ~ 1)
+     * @param maxParameterLength 파라미터 값 최대 출력 길이
+     */
+    public SlowQueryListener(long thresholdMillis, double sampleRate, int maxParameterLength) {
+        this.thresholdMillis = thresholdMillis;
+        this.sampleRate = sampleRate;
+        this.maxParameterLength = maxParameterLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        statementCount.increment();
+        maxMillis.accumulateAndGet(elapsed, Math::max);
+
+        if (elapsed >= thresholdMillis) {
+            slowCount.increment();
+            if (log.isWarnEnabled()) {
+                log.warn("느린 쿼리 {}ms [{}] {}", elapsed, caller(), describe(queryInfoList));
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampledCount.increment();
+            if (log.isInfoEnabled()) {
+                log.info("쿼리 샘플 {}ms [{}] {}", elapsed, caller(), describe(queryInfoList));
+            }
+        }
+    }
+
+    private static String caller() {
+        String method = RepositoryMethodTracker.current();
+        return method == null ? "-" : method;
+    }
+
+    /**
+     * SQL과 바인드 파라미터를 한 줄로 정리 (배치 실행은 첫 파라미터 묶음과 묶음 수만 표시)
+     */
+    private String describe(List<QueryInfo> queryInfoList) {
+        StringBuilder sb = new StringBuilder();
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (!sb.isEmpty()) {
+                sb.append(" | ");
+            }
+            sb.append(queryInfo.getQuery().replaceAll("\\s+", " ").trim());
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            if (!parametersList.isEmpty()) {
+                sb.append(" params=").append(parameters(parametersList.get(0)));
+                if (parametersList.size() > 1) {
+                    sb.append(" (batch x").append(parametersList.size()).append(')');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private String parameters(List<ParameterSetOperation> operations) {
+        StringBuilder sb = new StringBuilder("[");
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            if (args == null || args.length < 2) {
+                continue;
+            }
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            String value = String.valueOf(args[1]);
+            sb.append(value.length() > maxParameterLength ? value.substring(0, maxParameterLength) + "..." : value);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * 쿼리 로그 통계
+     *
+     * @return 전체/느린/샘플 기록 쿼리 수, 최대 실행 시간, 설정값
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", thresholdMillis);
+        result.put("sampleRate", sampleRate);
+        result.put("statementCount", statementCount.sum());
+        result.put("slowCount", slowCount.sum());
+        result.put("sampledCount", sampledCount.sum());
+        result.put("maxMillis", maxMillis.get());
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package my_board.board.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * 느린 쿼리 로그 설정
+ * show-sql(모든 SQL을 요청 스레드에서 콘솔에 출력) 대신
+ * DataSource를 JDBC 프록시로 감싸 실행 시간을 측정하고 느린 SQL만 기록
+ *
+ * - DataSource 프록시: SlowQueryListener로 모든 SQL 실행 시간 전달
+ * - Repository 프록시: 실행 중인 Repository 메서드를 RepositoryMethodTracker에 기록 (로그의 호출 위치)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "board.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    /**
+     * @param thresholdMillis    느린 쿼리 기준 시간 (밀리초)
+     * @param sampleRate         기준 미만 쿼리를 기록할 비율 (0 ~ 1)
+     * @param maxParameterLength 파라미터 값 최대 출력 길이
+     */
+    @Bean
+    public static SlowQueryListener slowQueryListener(
+            @Value("${board.slow-query.threshold-millis:200}") long thresholdMillis,
+            @Value("${board.slow-query.sample-rate:0}") double sampleRate,
+            @Value("${board.slow-query.max-parameter-length:100}") int maxParameterLength
+    ) {
+        return new SlowQueryListener(thresholdMillis, sampleRate, maxParameterLength);
+    }
+
+    /**
+     * DataSource를 JDBC 프록시로 감쌈
+     * 이미 프록시(테스트용 쿼리 기록 등)라면 리스너만 추가
+     */
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(SlowQueryListener slowQueryListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(slowQueryListener);
+                    return bean;
+                }
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(slowQueryListener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 모든 Spring Data Repository 프록시에 호출 메서드 기록 인터셉터 추가
+     * (팩토리 빈 초기화 전에 등록해야 프록시 생성 시 반영됨)
+     */
+    @Bean
+    static BeanPostProcessor repositoryMethodTrackingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(RepositoryMethodTracker.interceptor(
+                                            information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
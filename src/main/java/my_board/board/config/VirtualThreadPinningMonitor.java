@@ -0,0 +1,158 @@
+package my_board.board.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * 가상 스레드가 synchronized 블록 안에서 블로킹되거나(JDBC 드라이버 내부 잠금 등) 네이티브 호출 중이면
+ * 캐리어(플랫폼) 스레드에서 내려오지 못해 다른 가상 스레드가 실행되지 못함
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 구독하여
+ * 기준 시간 이상 고정된 경우 로그(고정 위치 스택)를 남기고 위치별 건수를 집계
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    /**
+     * 로그에 남길 스택 프레임 수
+     */
+    private static final int LOGGED_FRAMES = 8;
+
+    /**
+     * 고정 위치 판단 시 건너뛸 JDK 내부 프레임 패키지
+     * jdk.VirtualThreadPinned 스택의 맨 위는 항상 JDK 파킹 프레임(VirtualThread.parkOnCarrierThread 등)이므로
+     * 그 아래에서 처음 나오는 애플리케이션/드라이버 프레임을 고정 위치로 사용
+     */
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    /**
+     * 위치별 집계 최대 개수 (무한정 커지지 않도록)
+     */
+    private static final int MAX_TRACKED_SITES = 100;
+
+    /**
+     * 기록 기준 고정 시간 (밀리초)
+     */
+    private final long thresholdMillis;
+
+    private RecordingStream stream;
+
+    private final LongAdder pinnedCount = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+
+    /**
+     * 고정 위치(가장 안쪽 애플리케이션/드라이버 프레임) -> 발생 건수
+     */
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+    public VirtualThreadPinningMonitor(
+            @Value("${board.virtual-threads.pinned-threshold-millis:20}") long thresholdMillis
+    ) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    /**
+     * JFR 이벤트 구독 시작 (별도 데몬 스레드에서 비동기 처리)
+     */
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT_NAME)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 (기준 {}ms)", thresholdMillis);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedCount.increment();
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        int siteIndex = pinnedSiteIndex(frames);
+        String site = siteIndex < 0 ? "unknown" : describe(frames.get(siteIndex));
+        if (pinnedSites.size() < MAX_TRACKED_SITES || pinnedSites.containsKey(site)) {
+            pinnedSites.computeIfAbsent(site, k -> new LongAdder()).increment();
+        }
+
+        // 로그도 고정 위치부터 남김 (JDK 파킹 프레임만 찍히지 않도록)
+        int from = Math.max(siteIndex, 0);
+        StringBuilder stack = new StringBuilder();
+        for (int i = from; i < Math.min(frames.size(), from + LOGGED_FRAMES); i++) {
+            stack.append("\n\tat ").append(describe(frames.get(i)));
+        }
+        log.warn("가상 스레드 고정 {}ms (스레드: {}){}",
+                nanos / 1_000_000.0,
+                event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                stack);
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임 위치
+     *
+     * @return 프레임 인덱스, JDK 프레임뿐이면 맨 위 프레임(0), 스택이 없으면 -1
+     */
+    private static int pinnedSiteIndex(List<RecordedFrame> frames) {
+        for (int i = 0; i < frames.size(); i++) {
+            String type = frames.get(i).getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return i;
+            }
+        }
+        return frames.isEmpty() ? -1 : 0;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * 고정 통계 조회
+     *
+     * @return 기준 시간, 고정 건수, 최대 고정 시간, 위치별 건수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> sites = new LinkedHashMap<>();
+        pinnedSites.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(e -> sites.put(e.getKey(), e.getValue().sum()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", thresholdMillis);
+        result.put("pinnedCount", pinnedCount.sum());
+        result.put("maxPinnedMillis", maxPinnedNanos.get() / 1_000_000.0);
+        result.put("sites", sites);
+        return result;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
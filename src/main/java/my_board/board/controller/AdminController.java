@@ -0,0 +1,67 @@
+package my_board.board.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import my_board.board.service.PostExportService;
+import my_board.board.service.PostImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 관리자 전용 REST API 컨트롤러 (데이터 가져오기/내보내기)
+ * ROLE_ADMIN 권한이 필요 (SecurityConfig)
+ *
+ * 대량 처리 API는 배치 단위로 나누어 커밋하므로 컨트롤러에 트랜잭션을 걸지 않음
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PostImportService postImportService;
+
+    private final PostExportService postExportService;
+
+    /**
+     * 게시글/댓글 대량 가져오기 API
+     * 본문을 @RequestBody로 한 번에 읽지 않고 요청 스트림에서 레코드 단위로 읽어 저장
+     * POST /api/admin/import
+     * Content-Type: application/x-ndjson (한 줄에 게시글 하나) 또는 application/json (게시글 배열)
+     *
+     * @return 200 OK - 레코드 수, 저장한 게시글/댓글 수, 실패한 레코드 목록
+     *         400 Bad Request - 본문을 읽는 중 연결이 끊김 (이전 배치까지는 저장된 상태)
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importPosts(HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(postImportService.importPosts(request.getInputStream()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("본문을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글/댓글 내보내기 API (NDJSON, 한 줄에 게시글 하나와 댓글 전체)
+     * 요청 스레드를 바로 반환하고 DB 커서에서 읽는 대로 응답에 기록 (전체 데이터를 메모리에 올리지 않음)
+     * 게시글 ID 오름차순이므로 연결이 끊기면 마지막으로 받은 줄의 id를 after로 넘겨 이어받음
+     * GET /api/admin/export?after={id}
+     *
+     * @param after 이 ID 이후의 게시글부터 (처음부터면 생략)
+     * @return 200 OK - application/x-ndjson 스트림 (가져오기 API 본문으로 그대로 사용 가능)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(value = "after", required = false) Long after) {
+        StreamingResponseBody body = out -> postExportService.export(after, out);
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
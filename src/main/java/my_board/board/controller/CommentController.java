@@ -3,6 +3,8 @@ package my_board.board.controller;
 import lombok.RequiredArgsConstructor;
 import my_board.board.dto.CommentRequestDto;
 import my_board.board.dto.CommentResponseDto;
+import my_board.board.dto.CommentTreeDto;
+import my_board.board.dto.CursorPageDto;
 import my_board.board.service.CommentService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -13,6 +15,7 @@ import java.util.List;
 /**
  * 댓글 관련 REST API 컨트롤러
  * - 댓글 조회, 작성
+ * - 계층형 댓글 트리 조회, 잘린 답글 이어서 조회
  * - RESTful URL 설계: /api/posts/{postId}/comments
  */
 @RestController
@@ -34,6 +37,61 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * 계층형 댓글 트리 조회 API
+     * 서버에서 부모/자식 관계를 조립하여 반환하며, 최상위 댓글 기준으로 페이지를 나눔
+     * 인증 없이 접근 가능
+     * GET /api/posts/{postId}/comments/tree?cursor={nextCursor}&size=20&maxDepth=3&maxReplies=200
+     * cursor     이전 응답의 nextCursor (첫 페이지는 생략)
+     * size       최상위 댓글 수 (기본 20, 최대 100)
+     * maxDepth   포함할 답글 깊이 (0이면 최상위 댓글만)
+     * maxReplies 포함할 답글 수 (모든 깊이 합산)
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<?> getCommentTree(
+            @PathVariable("postId") Long postId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "maxDepth", required = false) Integer maxDepth,
+            @RequestParam(value = "maxReplies", required = false) Integer maxReplies
+    ) {
+        try {
+            CursorPageDto<CommentTreeDto> page =
+                    commentService.getCommentTree(postId, cursor, size, maxDepth, maxReplies);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 댓글의 답글 트리 조회 API
+     * 트리 조회에서 깊이/개수 제한으로 잘린 노드(hasMoreReplies)의 나머지 답글을 이어서 조회
+     * 인증 없이 접근 가능
+     * GET /api/posts/{postId}/comments/{commentId}/replies?cursor={repliesCursor}&size=20&maxDepth=3&maxReplies=200
+     * cursor     트리 노드의 repliesCursor 또는 이전 응답의 nextCursor (처음부터면 생략)
+     * size       직계 답글 수 (기본 20, 최대 100)
+     * maxDepth   직계 답글 아래로 포함할 깊이 (0이면 직계 답글만)
+     * maxReplies 직계 답글 아래로 포함할 답글 수 (모든 깊이 합산)
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<?> getReplies(
+            @PathVariable("postId") Long postId,
+            @PathVariable("commentId") Long commentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "maxDepth", required = false) Integer maxDepth,
+            @RequestParam(value = "maxReplies", required = false) Integer maxReplies
+    ) {
+        try {
+            CursorPageDto<CommentTreeDto> page =
+                    commentService.getReplies(postId, commentId, cursor, size, maxDepth, maxReplies);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 댓글 작성 API (일반 댓글 및 대댓글)
      * JWT 인증이 필요한 엔드포인트
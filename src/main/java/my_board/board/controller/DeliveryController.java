@@ -2,10 +2,16 @@ package my_board.board.controller;
 
 import lombok.RequiredArgsConstructor;
 import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.service.DeliveryBatchService;
 import my_board.board.service.DeliveryService;
+import my_board.board.service.UpstreamUnavailableException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 택배 배송 조회 REST API 컨트롤러
  * 스마트택배 API를 통한 택배 배송 정보 조회 엔드포인트 제공
@@ -17,18 +23,46 @@ public class DeliveryController {
 
     private final DeliveryService deliveryService;
 
+    private final DeliveryBatchService deliveryBatchService;
+
     /**
      * 택배 배송 조회 API
      * 스마트택배 API를 호출하여 실시간 택배 배송 정보를 조회
      * 택배사 코드와 송장번호를 입력받아 배송 현황을 반환
      * POST /api/getTrackingDelivery
      * @param dto 택배 조회 정보 (carrier: 택배사 코드, invoice: 송장번호)
-     * @return 200 OK - 스마트택배 API 응답 JSON
+     * @return 200 OK - 스마트택배 API 응답 JSON (외부 API 응답 바이트를 다시 직렬화하지 않고 그대로 전달)
+     *         503 Service Unavailable - 외부 API 장애로 호출이 차단되었거나 응답 시간 초과
      */
     @PostMapping("/getTrackingDelivery")
     public ResponseEntity<?> getTracking(@RequestBody DeliveryRequestDto dto) {
-        return ResponseEntity.ok(
-                deliveryService.trackDelivery(dto.getCarrier(), dto.getInvoice())
-        );
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(deliveryService.trackDelivery(dto.getCarrier(), dto.getInvoice()));
+        } catch (UpstreamUnavailableException e) {
+            // 외부 API가 회복될 때까지 잠시 후 재시도하도록 안내
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "5")
+                    .body(e.getMessage());
+        }
+    }
+
+    /**
+     * 택배 일괄 조회 API
+     * 여러 송장을 동시에 조회하여 가장 느린 한 건의 시간 안에 응답
+     * 제한 시간 안에 끝나지 않은 항목은 TIMEOUT, 실패한 항목은 ERROR로 표시하고 나머지 결과는 그대로 반환
+     * POST /api/getTrackingDeliveries
+     * @param dtos 택배 조회 정보 목록
+     * @return 200 OK - 요청 순서와 같은 순서의 조회 결과 목록 (status: OK/ERROR/TIMEOUT, result: 스마트택배 응답 JSON)
+     *         400 Bad Request - 목록이 비어 있거나 최대 개수 초과
+     */
+    @PostMapping("/getTrackingDeliveries")
+    public ResponseEntity<?> getTrackings(@RequestBody List<DeliveryRequestDto> dtos) {
+        try {
+            return ResponseEntity.ok(deliveryBatchService.trackDeliveries(dtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 }
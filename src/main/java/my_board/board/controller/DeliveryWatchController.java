@@ -0,0 +1,88 @@
+package my_board.board.controller;
+
+import lombok.RequiredArgsConstructor;
+import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.dto.DeliveryStatusChangeDto;
+import my_board.board.dto.DeliverySubscriptionDto;
+import my_board.board.service.DeliveryWatchService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 택배 배송 상태 구독 REST API 컨트롤러
+ * 송장을 구독하면 서버가 배송 상태를 주기적으로 조회하고, 클라이언트는 변경 이력만 확인
+ * 모든 엔드포인트는 JWT 인증 필요
+ */
+@RestController
+@RequestMapping("/api/deliveries")
+@RequiredArgsConstructor
+public class DeliveryWatchController {
+
+    private final DeliveryWatchService deliveryWatchService;
+
+    /**
+     * 송장 구독 등록 API
+     * POST /api/deliveries/subscriptions
+     * @param dto 택배 조회 정보 (carrier: 택배사 코드, invoice: 송장번호)
+     * @return 200 OK - 구독 정보
+     *         400 Bad Request - 입력값 누락 또는 구독 수 초과
+     */
+    @PostMapping("/subscriptions")
+    public ResponseEntity<?> subscribe(@RequestBody DeliveryRequestDto dto, Authentication authentication) {
+        String email = (String) authentication.getPrincipal();
+        try {
+            return ResponseEntity.ok(deliveryWatchService.subscribe(email, dto.getCarrier(), dto.getInvoice()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 내 구독 목록 조회 API
+     * GET /api/deliveries/subscriptions
+     * @return 200 OK - 구독 목록 (마지막으로 확인한 배송 상태, 다음 조회 예정 시각 포함)
+     */
+    @GetMapping("/subscriptions")
+    public ResponseEntity<List<DeliverySubscriptionDto>> getSubscriptions(Authentication authentication) {
+        String email = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(deliveryWatchService.getSubscriptions(email));
+    }
+
+    /**
+     * 구독 해지 API
+     * DELETE /api/deliveries/subscriptions/{id}
+     * @return 200 OK - 해지 완료
+     *         404 Not Found - 구독이 없거나 다른 사용자의 구독
+     */
+    @DeleteMapping("/subscriptions/{id}")
+    public ResponseEntity<?> unsubscribe(@PathVariable("id") Long id, Authentication authentication) {
+        String email = (String) authentication.getPrincipal();
+        try {
+            deliveryWatchService.unsubscribe(email, id);
+            return ResponseEntity.ok("구독이 해지되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 배송 상태 변경 조회 API
+     * 마지막으로 받은 변경 이후에 바뀐 배송 상태만 반환 (변경이 없으면 빈 목록)
+     * 택배 조회 API를 반복 호출하는 대신 이 API로 변경 여부만 확인
+     * GET /api/deliveries/changes?after={마지막으로 받은 id}&size=50
+     * @return 200 OK - 변경 이력 목록 (id 오름차순)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<List<DeliveryStatusChangeDto>> getChanges(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", required = false) Integer size,
+            Authentication authentication
+    ) {
+        String email = (String) authentication.getPrincipal();
+        return ResponseEntity.ok(deliveryWatchService.getChanges(email, after, size));
+    }
+}
@@ -0,0 +1,214 @@
+package my_board.board.controller;
+
+import lombok.RequiredArgsConstructor;
+import my_board.board.cache.PostDetailCache;
+import my_board.board.config.ReplicaRouter;
+import my_board.board.config.SlowQueryListener;
+import my_board.board.config.VirtualThreadPinningMonitor;
+import my_board.board.service.CommentCountReconciler;
+import my_board.board.service.DeliveryBatchService;
+import my_board.board.service.DeliveryService;
+import my_board.board.service.DeliveryWatcher;
+import my_board.board.service.NicknameAvailabilityService;
+import my_board.board.service.PasswordHashingService;
+import my_board.board.service.PostExportService;
+import my_board.board.service.PostImportService;
+import my_board.board.service.PostViewCounter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 운영 모니터링용 REST API 컨트롤러
+ * 캐시, 비밀번호 해시 스레드 풀, 닉네임 필터, 택배 조회 API 등 내부 구성 요소의 통계를 조회 (인증 필요)
+ */
+@RestController
+@RequestMapping("/api/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final PostDetailCache postDetailCache;
+
+    private final PasswordHashingService passwordHashingService;
+
+    private final NicknameAvailabilityService nicknameAvailabilityService;
+
+    private final DeliveryService deliveryService;
+
+    private final DeliveryBatchService deliveryBatchService;
+
+    private final DeliveryWatcher deliveryWatcher;
+
+    private final PostViewCounter postViewCounter;
+
+    private final CommentCountReconciler commentCountReconciler;
+
+    private final PostImportService postImportService;
+
+    private final PostExportService postExportService;
+
+    /**
+     * 가상 스레드 모드에서만 등록됨
+     */
+    private final ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor;
+
+    /**
+     * 느린 쿼리 로그 사용 시에만 등록됨 (board.slow-query.enabled)
+     */
+    private final ObjectProvider<SlowQueryListener> slowQueryListener;
+
+    /**
+     * 복제본 라우팅 사용 시에만 등록됨 (board.datasource.routing.enabled)
+     */
+    private final ObjectProvider<ReplicaRouter> replicaRouter;
+
+    /**
+     * 게시글 상세 캐시 통계 조회 API
+     * GET /api/monitoring/caches/post-detail
+     * @return 200 OK - 캐시 크기, 히트/미스/제거 횟수 등
+     */
+    @GetMapping("/caches/post-detail")
+    public ResponseEntity<Map<String, Object>> postDetailCacheStats() {
+        return ResponseEntity.ok(postDetailCache.stats());
+    }
+
+    /**
+     * 택배 조회 캐시 및 외부 API 호출 통계 조회 API
+     * GET /api/monitoring/caches/tracking
+     * @return 200 OK - 캐시 히트율, 외부 API 호출 수, 평균/최대 응답 시간, 서킷 브레이커 상태
+     */
+    @GetMapping("/caches/tracking")
+    public ResponseEntity<Map<String, Object>> trackingCacheStats() {
+        return ResponseEntity.ok(deliveryService.stats());
+    }
+
+    /**
+     * 택배 일괄 조회 스레드 풀 통계 조회 API
+     * GET /api/monitoring/delivery-batch
+     * @return 200 OK - 일괄 조회 건수, 시간 초과/거절 항목 수, 스레드 풀 상태
+     */
+    @GetMapping("/delivery-batch")
+    public ResponseEntity<Map<String, Object>> deliveryBatchStats() {
+        return ResponseEntity.ok(deliveryBatchService.stats());
+    }
+
+    /**
+     * 택배 배송 상태 구독 조회 작업 통계 조회 API
+     * GET /api/monitoring/delivery-watcher
+     * @return 200 OK - 조회 중인 구독 수, 조회/실패/변경 건수
+     */
+    @GetMapping("/delivery-watcher")
+    public ResponseEntity<Map<String, Object>> deliveryWatcherStats() {
+        return ResponseEntity.ok(deliveryWatcher.stats());
+    }
+
+    /**
+     * 게시글 조회수 집계 통계 조회 API
+     * GET /api/monitoring/view-counter
+     * @return 200 OK - 반영 대기 게시글 수, 반영 횟수, 반영한 조회수, 실패 횟수
+     */
+    @GetMapping("/view-counter")
+    public ResponseEntity<Map<String, Object>> viewCounterStats() {
+        return ResponseEntity.ok(postViewCounter.stats());
+    }
+
+    /**
+     * 게시글 댓글 수 보정 작업 통계 조회 API
+     * GET /api/monitoring/comment-count
+     * @return 200 OK - 보정 실행 횟수, 보정된 게시글 수
+     */
+    @GetMapping("/comment-count")
+    public ResponseEntity<Map<String, Object>> commentCountStats() {
+        return ResponseEntity.ok(commentCountReconciler.stats());
+    }
+
+    /**
+     * 게시글 가져오기 진행 상황 조회 API
+     * GET /api/monitoring/import
+     * @return 200 OK - 진행 중인 가져오기 수, 누적 처리 레코드 수, 저장한 게시글 수, 실패 레코드 수
+     */
+    @GetMapping("/import")
+    public ResponseEntity<Map<String, Object>> importStats() {
+        return ResponseEntity.ok(postImportService.stats());
+    }
+
+    /**
+     * 게시글 내보내기 통계 조회 API
+     * GET /api/monitoring/export
+     * @return 200 OK - 진행 중인 내보내기 수, 누적 기록 게시글 수, 중단된 내보내기 수
+     */
+    @GetMapping("/export")
+    public ResponseEntity<Map<String, Object>> exportStats() {
+        return ResponseEntity.ok(postExportService.stats());
+    }
+
+    /**
+     * 비밀번호 해시 스레드 풀 통계 조회 API
+     * GET /api/monitoring/password-hashing
+     * @return 200 OK - 대기열 길이, 처리/거절 건수, 평균/최대 해시 시간
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<Map<String, Object>> passwordHashingStats() {
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
+
+    /**
+     * 닉네임 블룸 필터 통계 조회 API
+     * GET /api/monitoring/nickname-filter
+     * @return 200 OK - 필터 크기, DB 조회 없이 응답한 비율 등
+     */
+    @GetMapping("/nickname-filter")
+    public ResponseEntity<Map<String, Object>> nicknameFilterStats() {
+        return ResponseEntity.ok(nicknameAvailabilityService.stats());
+    }
+
+    /**
+     * 가상 스레드 고정(pinning) 통계 조회 API
+     * GET /api/monitoring/virtual-threads
+     * @return 200 OK - 고정 건수, 최대 고정 시간, 위치별 건수
+     *         404 Not Found - 가상 스레드 모드가 아님
+     */
+    @GetMapping("/virtual-threads")
+    public ResponseEntity<?> virtualThreadStats() {
+        VirtualThreadPinningMonitor monitor = virtualThreadPinningMonitor.getIfAvailable();
+        if (monitor == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("가상 스레드 모드가 아닙니다. (spring.threads.virtual.enabled=false)");
+        }
+        return ResponseEntity.ok(monitor.stats());
+    }
+
+    /**
+     * 느린 쿼리 로그 통계 조회 API
+     * GET /api/monitoring/slow-queries
+     * @return 200 OK - 전체/느린/샘플 기록 쿼리 수, 최대 실행 시간
+     *         404 Not Found - 느린 쿼리 로그 비활성화
+     */
+    @GetMapping("/slow-queries")
+    public ResponseEntity<?> slowQueryStats() {
+        SlowQueryListener listener = slowQueryListener.getIfAvailable();
+        if (listener == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("느린 쿼리 로그가 비활성화되어 있습니다. (board.slow-query.enabled=false)");
+        }
+        return ResponseEntity.ok(listener.stats());
+    }
+
+    /**
+     * 읽기 전용 복제본 라우팅 통계 조회 API
+     * GET /api/monitoring/datasource-routing
+     * @return 200 OK - 주 DB / 쓰기 후 읽기 / 대체 선택 수, 복제본별 상태와 선택 수
+     *         404 Not Found - 복제본 라우팅 비활성화
+     */
+    @GetMapping("/datasource-routing")
+    public ResponseEntity<?> dataSourceRoutingStats() {
+        ReplicaRouter router = replicaRouter.getIfAvailable();
+        if (router == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("복제본 라우팅이 비활성화되어 있습니다. (board.datasource.routing.enabled=false)");
+        }
+        return ResponseEntity.ok(router.stats());
+    }
+}
@@ -1,7 +1,10 @@
 package my_board.board.controller;
 
 import lombok.RequiredArgsConstructor;
+import my_board.board.dto.CursorPageDto;
+import my_board.board.dto.PostDetailDto;
 import my_board.board.dto.PostDto;
+import my_board.board.dto.PostSummaryDto;
 import my_board.board.dto.PostUpdateDto;
 import my_board.board.entity.Post;
 import my_board.board.repository.PostRepository;
@@ -9,26 +12,24 @@ import my_board.board.service.PostService;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 게시글 관련 REST API 컨트롤러
  * - 게시글 작성, 조회, 수정, 삭제 등의 CRUD 엔드포인트 제공
+ * - 트랜잭션은 PostService/Repository에서 시작 (조회는 읽기 전용 트랜잭션, 복제본 라우팅 사용 시 복제본에서 조회)
  */
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
-@Transactional
 public class PostController {
 
     private final PostService postService;
     
     /**
-     * 게시글(조회 및 삭제 시)
+     * 게시글(전체 목록 조회 시)
      */
     private final PostRepository postRepository;
 
@@ -56,16 +57,59 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 게시글 목록 조회 API (커서 기반 페이지네이션)
+     * 인증 없이 접근 가능 (공개 API)
+     * 전체 목록을 한 번에 내려주는 /api/getPosts 대신 스크롤/더보기 화면에서 사용
+     * GET /api/posts?cursor={nextCursor}&size=20
+     * cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * size   페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/posts")
+    public ResponseEntity<?> getPostPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        try {
+            CursorPageDto<Post> page = postService.getPostPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 요약 목록 조회 API (커서 기반 페이지네이션)
+     * 인증 없이 접근 가능 (공개 API)
+     * 목록 화면 전용: 본문 없이 id, 제목, 닉네임, 작성 시간, 댓글 수만 반환
+     * GET /api/posts/summaries?cursor={nextCursor}&size=20
+     * cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * size   페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/posts/summaries")
+    public ResponseEntity<?> getPostSummaries(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        try {
+            CursorPageDto<PostSummaryDto> page = postService.getPostSummaryPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 특정 게시글 상세 조회 API
      * 인증 없이 접근 가능 (공개 API)
+     * 캐시를 거쳐 조회 (PostService.getPost)
      * GET /api/posts/{id}
      */
     @GetMapping("/posts/{id}")
     public ResponseEntity<?> getPostById(@PathVariable("id") Long id) {
-        Optional<Post> post = postRepository.findById(id);
-        if(post.isPresent()) {
-            return ResponseEntity.ok(post.get());
+        PostDetailDto post = postService.viewPost(id);
+        if(post != null) {
+            return ResponseEntity.ok(post);
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("게시판을 찾을 수 없습니다.");
         }
@@ -90,29 +134,15 @@ public class PostController {
     /**
      * 게시글 삭제 API
      * JWT 인증이 필요한 엔드포인트
+     * 댓글과 게시글을 집합 단위 DELETE로 한 트랜잭션에서 삭제 (PostService.delete)
      * DELETE /api/posts/{id}
      * id 삭제할 게시글 ID
      */
     @DeleteMapping("/posts/{id}")
     public ResponseEntity<?> deletePost(@PathVariable("id") Long id) {
-
-        // 1. 게시글 존재 여부 확인
-        // 선택적 단계: 삭제 전에 미리 확인하여 명확한 에러 메시지 제공
-        if (!postRepository.existsById(id)) {
+        if (!postService.delete(id)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("존재하지 않는 게시글입니다.");
         }
-
-        // 2. 게시글 삭제
-        postRepository.deleteById(id);
-
-        // 3. 삭제 성공 여부 확인 (선택적, 안전성 검증)
-        boolean stillExists = postRepository.existsById(id);
-
-        if (stillExists) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("삭제 실패: 게시글이 아직 존재합니다.");
-        }
-
         return ResponseEntity.ok("삭제 완료");
     }
 }
@@ -1,17 +1,21 @@
 package my_board.board.controller;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import my_board.board.dto.LoginDto;
 import my_board.board.dto.TokenRequestDto;
 import my_board.board.dto.UserRegisterDto;
-import my_board.board.entity.RefreshToken;
 import my_board.board.entity.User;
+import my_board.board.jwt.AuthFailureMetrics;
 import my_board.board.jwt.JwtTokenProvider;
-import my_board.board.repository.RefreshTokenRepository;
-import my_board.board.repository.UserRepository;
+import my_board.board.jwt.RefreshTokenStore;
+import my_board.board.service.NicknameAvailabilityService;
+import my_board.board.service.PasswordHashingBusyException;
 import my_board.board.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -29,9 +33,9 @@ public class UserController {
     private final UserService userService;
     
     /**
-     * 사용자 데이터 접근 (닉네임 중복 체크, 토큰 재발급 시 사용)
+     * 닉네임 중복 확인 (블룸 필터로 먼저 확인 후 필요할 때만 DB 조회)
      */
-    private final UserRepository userRepository;
+    private final NicknameAvailabilityService nicknameAvailabilityService;
     
     /**
      * JWT 토큰 생성 및 검증
@@ -39,9 +43,14 @@ public class UserController {
     private final JwtTokenProvider jwtTokenProvider;
     
     /**
-     * Refresh Token 저장소
+     * Refresh Token 저장소 (메모리 또는 DB, board.refresh-token.store 설정)
      */
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * 인증 실패 사유별 카운터 (로그인 실패, Refresh Token 재사용 등)
+     */
+    private final AuthFailureMetrics authFailureMetrics;
 
     /**
      * 회원가입 API
@@ -51,16 +60,22 @@ public class UserController {
      * @param dto 회원가입 정보 (이메일, 비밀번호, 닉네임)
      * @return 200 OK - 회원가입 성공 메시지
      *         400 Bad Request - 이미 가입된 이메일인 경우 (예외 발생)
+     *         503 Service Unavailable - 비밀번호 해시 대기열이 가득 찬 경우 (Retry-After 헤더 포함)
      */
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody UserRegisterDto dto) {
-        userService.register(dto);
+        try {
+            userService.register(dto);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
+        }
         return ResponseEntity.ok("회원가입 완료");
     }
 
     /**
      * 닉네임 중복 확인 API
      * 회원가입 시 실시간으로 닉네임 중복을 체크
+     * 블룸 필터에 없는 닉네임은 DB 조회 없이 바로 사용 가능으로 응답
      * 
      * GET /api/users/check-nickname?nickname=홍길동
      * 
@@ -70,7 +85,7 @@ public class UserController {
      */
     @GetMapping("/check-nickname")
     public ResponseEntity<?> checkNickname(@RequestParam("nickname") String nickname) {
-        boolean isNickname = userRepository.existsByNickname(nickname);
+        boolean isNickname = nicknameAvailabilityService.isTaken(nickname);
         if (isNickname) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body("중복된 닉네임입니다.");
         }
@@ -84,7 +99,7 @@ public class UserController {
      * 1. 이메일과 비밀번호로 사용자 인증
      * 2. Access Token 생성 (유효기간: 1시간)
      * 3. Refresh Token 생성 (유효기간: 7일)
-     * 4. Refresh Token을 데이터베이스에 저장
+     * 4. Refresh Token을 저장소에 저장 (만료 시각 포함)
      * 5. 토큰과 사용자 정보를 클라이언트에 반환
      * 
      * 엔드포인트: POST /api/users/login
@@ -92,11 +107,20 @@ public class UserController {
      * @param dto 로그인 정보 (이메일, 비밀번호)
      * @return 200 OK - Access Token, Refresh Token, 닉네임
      *         401 Unauthorized - 인증 실패 (이메일 또는 비밀번호 오류)
+     *         503 Service Unavailable - 비밀번호 해시 대기열이 가득 찬 경우 (Retry-After 헤더 포함)
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginDto dto) {
         // 사용자 인증 (이메일 및 비밀번호 검증)
-        User user = userService.authenticate(dto.getEmail(), dto.getPassword());
+        User user;
+        try {
+            user = userService.authenticate(dto.getEmail(), dto.getPassword());
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
+        } catch (UsernameNotFoundException | IllegalArgumentException e) {
+            authFailureMetrics.record(AuthFailureMetrics.Reason.BAD_CREDENTIALS, e.getMessage());
+            throw e;
+        }
         
         // Access Token 생성 (사용자 이메일, 권한, 닉네임 포함)
         String accessToken = jwtTokenProvider.createToken(user.getEmail(), user.getRole(), user.getNickname());
@@ -104,14 +128,9 @@ public class UserController {
         // Refresh Token 생성 (사용자 이메일만 포함)
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
 
-        // Refresh Token을 데이터베이스에 저장
-        // 동일한 이메일이 이미 존재하면 덮어쓰기 (PK가 email이므로)
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .email(user.getEmail())
-                        .token(refreshToken)
-                        .build()
-        );
+        // Refresh Token을 저장소에 저장
+        // 동일한 이메일이 이미 존재하면 덮어쓰기 (사용자당 하나의 토큰만 유지)
+        refreshTokenStore.save(user.getEmail(), refreshToken, jwtTokenProvider.getRefreshTokenExpiresAt());
 
         // 클라이언트에 토큰 및 사용자 정보 반환
         return ResponseEntity.ok(Map.of(
@@ -126,10 +145,11 @@ public class UserController {
      * AccessToken 만료되었을 때 RefreshToken을 사용하여 새 AccessToken을 발급
      * 처리 과정:
      * 1. RefreshToken 유효성 검증
-     * 2. RefreshToken에서 사용자 이메일 추출
-     * 3. 데이터베이스에 저장된 Refresh oken과 비교 검증
-     * 4. 기존 AccessToken에서 권한 정보 추출
-     * 5. 새로운 AccessToken 생성 및 반환
+     * 2. RefreshToken에서 사용자 이메일 추출 (AccessToken의 사용자와 다르면 거부)
+     * 3. 저장된 RefreshToken과 비교하여 새 RefreshToken으로 교체 (토큰 회전)
+     *    - 이미 교체된 RefreshToken이 다시 사용되면 탈취로 보고 저장된 토큰까지 폐기
+     * 4. 서명이 검증된 기존 AccessToken의 권한, 닉네임으로 새 AccessToken 생성 (DB 조회 없음)
+     * 5. 새로운 AccessToken, RefreshToken 반환
      * POST /api/users/reissue
 
      */
@@ -139,29 +159,54 @@ public class UserController {
         String accessToken = dto.getAccessToken();
 
         // 1. Refresh Token 유효성 검사 (만료 여부, 서명 검증 등)
-        if(!jwtTokenProvider.validateToken(refreshToken)) {
+        // 검증과 claims 추출을 한 번의 파싱으로 처리
+        Claims refreshClaims = jwtTokenProvider.resolveClaims(refreshToken);
+        if(refreshClaims == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 리프레시 토큰입니다.");
         }
 
         // 2. Refresh Token에서 사용자 정보 추출
-        String email = jwtTokenProvider.getEmail(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        String nickname = user.getNickname();
+        String email = refreshClaims.getSubject();
+        // Access Token은 서명만 검증 (만료 허용), 다른 사용자의 토큰과 섞어서 재발급 요청하는 경우 거부
+        Claims accessClaims = jwtTokenProvider.resolveClaimsAllowingExpired(accessToken);
+        if(accessClaims == null || !email.equals(accessClaims.getSubject())) {
+            authFailureMetrics.record(AuthFailureMetrics.Reason.REFRESH_SUBJECT_MISMATCH, email);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("토큰의 사용자 정보가 일치하지 않습니다.");
+        }
 
-        // 3. 데이터베이스에 저장된 Refresh Token과 일치하는지 확인
-        // (토큰 탈취 방지: DB에 저장된 토큰과 다르면 거부)
-        RefreshToken saved = refreshTokenRepository.findById(email)
-                .orElseThrow(() -> new IllegalArgumentException("저장된 리프레시 토큰이 없습니다."));
+        // 3. 저장된 Refresh Token과 비교 후 새 토큰으로 교체
+        // (토큰 탈취 방지: 저장된 토큰과 다르면 거부하고 저장된 토큰도 폐기)
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(
+                email, refreshToken, newRefreshToken, jwtTokenProvider.getRefreshTokenExpiresAt());
 
-        if(!saved.getToken().equals(refreshToken)) {
+        if(result == RefreshTokenStore.RotationResult.NOT_FOUND) {
+            authFailureMetrics.record(AuthFailureMetrics.Reason.REFRESH_NOT_FOUND, email);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("저장된 리프레시 토큰이 없습니다.");
+        }
+        if(result == RefreshTokenStore.RotationResult.REUSED) {
+            authFailureMetrics.record(AuthFailureMetrics.Reason.REFRESH_REUSED, email);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("리프레시 토큰이 일치하지 않습니다.");
         }
 
         // 4. 새로운 Access Token 발급
-        // 기존 Access Token에서 권한(role) 추출 (만료된 토큰에서도 추출 가능)
-        String newAccessToken = jwtTokenProvider.createToken(email, jwtTokenProvider.getRole(accessToken), nickname);
+        // 권한(role), 닉네임은 서버가 서명한 같은 사용자의 Access Token에서 가져옴
+        String newAccessToken = jwtTokenProvider.createToken(
+                email, accessClaims.get("role", String.class), accessClaims.get("nickname", String.class));
         
-        return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+        return ResponseEntity.ok(Map.of(
+                "accessToken", newAccessToken,
+                "refreshToken", newRefreshToken
+        ));
+    }
+
+    /**
+     * 비밀번호 해시 대기열 포화 시 응답
+     * 503 + Retry-After로 클라이언트가 잠시 후 재시도하도록 안내
+     */
+    private ResponseEntity<?> busy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
     }
-}
\ No newline at end of file
+}
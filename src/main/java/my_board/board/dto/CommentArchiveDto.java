@@ -0,0 +1,53 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 가져오기/내보내기 레코드에 포함되는 댓글 DTO
+ *
+ * - id / parentId: 같은 레코드 안에서 답글이 어떤 댓글에 달렸는지 나타내는 값
+ *   가져오기 시에는 새 ID로 다시 생성하며, 부모 댓글은 레코드 안에서 답글보다 먼저 나와야 함
+ * - writerEmail: 작성자 (가져오기 시 해당 이메일의 사용자가 이미 있어야 함)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentArchiveDto {
+    /**
+     * 댓글 ID
+     */
+    private Long id;
+
+    /**
+     * 부모 댓글 ID (최상위 댓글이면 null)
+     */
+    private Long parentId;
+
+    /**
+     * 댓글 내용
+     */
+    private String content;
+
+    /**
+     * 작성자 이메일
+     */
+    private String writerEmail;
+
+    /**
+     * 작성 시간 (없으면 가져온 시각)
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 삭제 여부
+     */
+    private boolean deleted;
+}
@@ -0,0 +1,63 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 조회용 행 DTO (Data Transfer Object)
+ * 댓글과 작성자 정보(닉네임, 이메일)를 한 번의 조인 쿼리로 받아오기 위한 프로젝션
+ *
+ * Comment 엔티티의 LAZY 연관관계(user, post, parent)를 건드리지 않으므로
+ * 댓글 수만큼 추가 SELECT가 발생하는 N+1 문제가 생기지 않음
+ *
+ * CommentRepository의 JPQL 생성자 표현식(select new ...)으로 직접 생성되므로
+ * 생성자 파라미터 순서를 쿼리와 맞춰야 함
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @AllArgsConstructor: JPQL 생성자 표현식에서 사용할 생성자
+ */
+@Getter
+@AllArgsConstructor
+public class CommentRowDto {
+    /**
+     * 댓글 고유 식별자
+     */
+    private Long id;
+
+    /**
+     * 댓글이 속한 게시글 ID
+     */
+    private Long postId;
+
+    /**
+     * 부모 댓글 ID (최상위 댓글이면 null)
+     */
+    private Long parentId;
+
+    /**
+     * 댓글 내용
+     */
+    private String content;
+
+    /**
+     * 작성자 닉네임
+     */
+    private String writerNickname;
+
+    /**
+     * 작성자 이메일
+     */
+    private String writerEmail;
+
+    /**
+     * 댓글 작성 시간
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 댓글 삭제 여부
+     */
+    private Boolean deleted;
+}
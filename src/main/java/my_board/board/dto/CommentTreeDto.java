@@ -0,0 +1,78 @@
+package my_board.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 댓글 응답 DTO (Data Transfer Object)
+ * 서버에서 부모/자식 관계를 조립한 댓글 트리의 한 노드
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @Builder: 빌더 패턴 지원 (객체 생성 편의성)
+ */
+@Getter
+@Builder
+public class CommentTreeDto {
+    /**
+     * 댓글 고유 식별자
+     */
+    private Long id;
+
+    /**
+     * 부모 댓글 ID (최상위 댓글이면 null)
+     */
+    private Long parentId;
+
+    /**
+     * 댓글 내용
+     */
+    private String content;
+
+    /**
+     * 작성자 닉네임
+     */
+    private String writerNickname;
+
+    /**
+     * 작성자 이메일
+     */
+    private String writerEmail;
+
+    /**
+     * 댓글 작성 시간
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 댓글 삭제 여부
+     */
+    private Boolean deleted;
+
+    /**
+     * 전체 직계 답글 수
+     * children 크기보다 크면 깊이/개수 제한으로 일부 답글이 생략된 것
+     */
+    private long replyCount;
+
+    /**
+     * 깊이/개수 제한으로 생략된 직계 답글이 있는지 여부
+     */
+    private boolean hasMoreReplies;
+
+    /**
+     * 생략된 직계 답글을 이어서 조회할 커서
+     * GET /api/posts/{postId}/comments/{id}/replies?cursor={repliesCursor}
+     * 포함된 답글이 하나도 없으면 null (처음부터 조회)
+     */
+    private String repliesCursor;
+
+    /**
+     * 이번 페이지에 포함된 직계 답글 (작성 시간 오름차순)
+     */
+    @Builder.Default
+    private List<CommentTreeDto> children = new ArrayList<>();
+}
@@ -0,0 +1,33 @@
+package my_board.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO (Data Transfer Object)
+ * 한 페이지 분량의 데이터와 다음 페이지를 요청할 때 사용할 커서를 함께 전달
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @Builder: 빌더 패턴 지원 (객체 생성 편의성)
+ */
+@Getter
+@Builder
+public class CursorPageDto<T> {
+    /**
+     * 현재 페이지 데이터
+     */
+    private List<T> items;
+
+    /**
+     * 다음 페이지 커서
+     * 다음 페이지가 없으면 null
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
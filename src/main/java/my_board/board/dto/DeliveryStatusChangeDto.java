@@ -0,0 +1,36 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 택배 배송 상태 변경 응답 DTO
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class DeliveryStatusChangeDto {
+
+    /**
+     * 변경 이력 ID (다음 조회 시 after 파라미터로 사용)
+     */
+    private Long id;
+
+    private Long subscriptionId;
+
+    private String carrier;
+
+    private String invoice;
+
+    private int level;
+
+    private boolean complete;
+
+    private String kind;
+
+    private String location;
+
+    private Instant changedAt;
+}
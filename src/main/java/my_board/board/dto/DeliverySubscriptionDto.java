@@ -0,0 +1,50 @@
+package my_board.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import my_board.board.entity.DeliverySubscription;
+
+import java.time.Instant;
+
+/**
+ * 택배 배송 상태 구독 응답 DTO
+ */
+@Getter
+@Builder
+public class DeliverySubscriptionDto {
+
+    private Long id;
+
+    private String carrier;
+
+    private String invoice;
+
+    private Integer lastLevel;
+
+    private String lastKind;
+
+    private String lastWhere;
+
+    /**
+     * 서버가 계속 조회 중인지 여부 (배송 완료 또는 구독 기간 만료 시 false)
+     */
+    private boolean active;
+
+    private Instant lastCheckedAt;
+
+    private Instant nextPollAt;
+
+    public static DeliverySubscriptionDto from(DeliverySubscription subscription) {
+        return DeliverySubscriptionDto.builder()
+                .id(subscription.getId())
+                .carrier(subscription.getCarrier())
+                .invoice(subscription.getInvoice())
+                .lastLevel(subscription.getLastLevel())
+                .lastKind(subscription.getLastKind())
+                .lastWhere(subscription.getLastWhere())
+                .active(subscription.isActive())
+                .lastCheckedAt(subscription.getLastCheckedAt())
+                .nextPollAt(subscription.isActive() ? subscription.getNextPollAt() : null)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package my_board.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 택배 일괄 조회 결과 항목 DTO
+ * 요청 목록과 같은 순서로 각 송장의 조회 결과를 담음
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeliveryTrackingResultDto {
+
+    /**
+     * 조회 상태
+     * - OK: 조회 성공 (result에 스마트택배 응답 포함)
+     * - ERROR: 조회 실패 (외부 API 장애, 잘못된 요청 등)
+     * - TIMEOUT: 제한 시간 안에 응답을 받지 못함
+     */
+    public enum Status { OK, ERROR, TIMEOUT }
+
+    private final String carrier;
+
+    private final String invoice;
+
+    private final Status status;
+
+    /**
+     * 스마트택배 API 응답 JSON (문자열로 감싸지 않고 객체 그대로 출력)
+     */
+    @JsonRawValue
+    private final String result;
+
+    /**
+     * 실패 사유 (OK가 아닌 경우)
+     */
+    private final String message;
+}
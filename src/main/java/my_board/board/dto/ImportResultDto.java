@@ -0,0 +1,70 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 가져오기 결과 DTO
+ * 처리한 레코드 수와 실패한 레코드의 위치/사유를 담음
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @Builder: 빌더 패턴 지원
+ */
+@Getter
+@Builder
+public class ImportResultDto {
+    /**
+     * 읽은 레코드 수
+     */
+    private final long totalRows;
+
+    /**
+     * 저장한 게시글 수
+     */
+    private final long importedPosts;
+
+    /**
+     * 저장한 댓글 수
+     */
+    private final long importedComments;
+
+    /**
+     * 실패한 레코드 수
+     */
+    private final long failedRows;
+
+    /**
+     * 실패한 레코드 목록 (최대 board.import.max-errors건)
+     */
+    private final List<RowError> errors;
+
+    /**
+     * 본문 형식 오류로 중간에 중단되었는지 여부 (중단 전까지 저장한 레코드는 유지됨)
+     */
+    private final boolean aborted;
+
+    /**
+     * 처리 시간 (밀리초)
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 실패한 레코드
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        /**
+         * 레코드 번호 (1부터)
+         */
+        private final long row;
+
+        /**
+         * 실패 사유
+         */
+        private final String message;
+    }
+}
@@ -0,0 +1,69 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 가져오기/내보내기 한 줄(레코드) DTO
+ * NDJSON 한 줄 또는 JSON 배열의 원소 하나가 게시글 하나와 그 댓글 전체에 대응
+ *
+ * - 가져오기: id는 무시하고 새 ID를 생성, createAt이 없으면 가져온 시각으로 저장
+ * - 내보내기: 저장된 값을 그대로 기록 (id는 이어받기 커서로 사용)
+ *
+ * @Getter/@Setter/@NoArgsConstructor: Jackson 역직렬화용
+ * @Builder/@AllArgsConstructor: 내보내기 시 생성용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostArchiveDto {
+    /**
+     * 게시글 ID (내보내기 전용)
+     */
+    private Long id;
+
+    /**
+     * 게시글 제목
+     */
+    private String title;
+
+    /**
+     * 게시글 내용
+     */
+    private String content;
+
+    /**
+     * 작성자 이메일
+     */
+    private String email;
+
+    /**
+     * 작성자 닉네임
+     */
+    private String nickname;
+
+    /**
+     * 작성 시간
+     */
+    private LocalDateTime createAt;
+
+    /**
+     * 조회수
+     */
+    private long viewCount;
+
+    /**
+     * 댓글 목록 (부모 댓글이 답글보다 먼저 오도록 작성 시간 순서)
+     */
+    @Builder.Default
+    private List<CommentArchiveDto> comments = new ArrayList<>();
+}
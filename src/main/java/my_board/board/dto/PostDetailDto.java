@@ -0,0 +1,91 @@
+package my_board.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import my_board.board.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 응답 DTO (Data Transfer Object)
+ * 게시글 상세 조회 캐시에 저장되는 불변 객체
+ * 엔티티를 그대로 캐시하면 영속성 컨텍스트/변경 감지와 얽히므로 값만 복사해서 보관
+ *
+ * JSON 필드는 기존 Post 엔티티 응답과 동일하게 유지
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @Builder: 빌더 패턴 지원 (객체 생성 편의성)
+ */
+@Getter
+@Builder
+public class PostDetailDto {
+    /**
+     * 게시글 고유 식별자
+     */
+    private final Long id;
+
+    /**
+     * 게시글 제목
+     */
+    private final String title;
+
+    /**
+     * 게시글 내용
+     */
+    private final String content;
+
+    /**
+     * 작성자 이메일
+     */
+    private final String email;
+
+    /**
+     * 작성자 닉네임
+     */
+    private final String nickname;
+
+    /**
+     * 게시글 작성 시간
+     */
+    private final LocalDateTime createAt;
+
+    /**
+     * 조회수 (DB 값 + 아직 반영되지 않은 조회수)
+     */
+    private final long viewCount;
+
+    /**
+     * 조회수만 바꾼 복사본 (캐시된 객체는 그대로 두고 응답용으로 생성)
+     *
+     * @param viewCount 응답할 조회수
+     */
+    public PostDetailDto withViewCount(long viewCount) {
+        return PostDetailDto.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .email(email)
+                .nickname(nickname)
+                .createAt(createAt)
+                .viewCount(viewCount)
+                .build();
+    }
+
+    /**
+     * 엔티티를 상세 응답 DTO로 변환
+     *
+     * @param post 게시글 엔티티
+     * @return 상세 응답 DTO
+     */
+    public static PostDetailDto from(Post post) {
+        return PostDetailDto.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .email(post.getEmail())
+                .nickname(post.getNickname())
+                .createAt(post.getCreateAt())
+                .viewCount(post.getViewCount())
+                .build();
+    }
+}
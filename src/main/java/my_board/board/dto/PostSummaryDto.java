@@ -0,0 +1,45 @@
+package my_board.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 DTO (Data Transfer Object)
+ * 목록 화면에 필요한 컬럼만 담아 게시글 본문(TEXT)을 읽지 않도록 함
+ *
+ * PostRepository의 JPQL 생성자 표현식(select new ...)으로 직접 생성되므로
+ * 생성자 파라미터 순서를 쿼리와 맞춰야 함
+ *
+ * @Getter: Lombok을 통한 getter 자동 생성
+ * @AllArgsConstructor: JPQL 생성자 표현식에서 사용할 생성자
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+    /**
+     * 게시글 고유 식별자
+     */
+    private Long id;
+
+    /**
+     * 게시글 제목
+     */
+    private String title;
+
+    /**
+     * 작성자 닉네임
+     */
+    private String nickname;
+
+    /**
+     * 게시글 작성 시간
+     */
+    private LocalDateTime createAt;
+
+    /**
+     * 댓글 수
+     */
+    private Long commentCount;
+}
@@ -14,8 +14,8 @@ import lombok.Setter;
 public class TokenRequestDto {
     /**
      * 만료된 Access Token
-     * 사용자 권한(role) 정보를 추출하기 위해 필요
-     * 만료된 토큰에서도 claims 정보는 읽을 수 있음
+     * Refresh Token과 같은 사용자의 토큰인지 확인하기 위해 필요 (만료된 토큰도 허용)
+     * 서명이 검증되면 새 Access Token의 권한(role), 닉네임을 이 토큰에서 가져옴
      */
     private String accessToken;
     
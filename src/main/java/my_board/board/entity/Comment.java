@@ -2,6 +2,7 @@ package my_board.board.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import my_board.board.util.SnowflakeId;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
  * 
  * @Entity: JPA 엔티티로 지정
  * @Table: 테이블명을 "comments"로 명시적 지정
+ *   + 게시글별 최상위 댓글 페이지 조회용 (post_id, parent_id, created_at, id) 복합 인덱스
  * @Getter/@Setter: Lombok을 통한 getter/setter 자동 생성
  * @NoArgsConstructor(access = AccessLevel.PROTECTED): 
  *   protected 기본 생성자 생성 (JPA 요구사항 충족 + 외부 직접 생성 방지)
@@ -18,19 +20,25 @@ import java.time.LocalDateTime;
  * @Builder: 빌더 패턴 지원 (객체 생성 편의성)
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+        indexes = @Index(name = "idx_comment_post_parent_created", columnList = "post_id, parent_id, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Comment {
+    /**
+     * 삭제된 댓글에 표시할 내용 (Soft Delete는 CommentRepository.softDelete 조건부 UPDATE로 처리)
+     */
+    public static final String DELETED_CONTENT = "삭제 처리 된 댓글입니다.";
+
     /**
      * 댓글 고유 식별자 (Primary Key)
-     * 데이터베이스에서 자동 증가(AUTO_INCREMENT)로 생성
+     * 애플리케이션에서 시간 순서 ID로 생성 (INSERT 배치 가능, SnowflakeIdGenerator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,8 +63,9 @@ public class Comment {
     /**
      * 댓글 작성 시간
      * LocalDateTime 타입으로 저장 (년-월-일 시:분:초)
+     * 인덱스 정의에서 참조하기 위해 컬럼명을 명시
      */
-    @Column(nullable = false)
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     /**
@@ -87,13 +96,4 @@ public class Comment {
                 .deleted(false)
                 .build();
     }
-
-    /**
-     * 댓글을 삭제 처리 (Soft Delete)
-     * 실제로 DB에서 삭제하지 않고, 내용을 "삭제 처리 된 댓글입니다."로 변경하고 deleted 플래그를 true로 설정
-     */
-    public void markAsDeleted() {
-        this.content = "삭제 처리 된 댓글입니다.";
-        this.deleted = true;
-    }
 }
@@ -0,0 +1,56 @@
+package my_board.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 택배 배송 상태 변경 이력 엔티티
+ * 조회할 때마다 저장하지 않고, 이전 조회와 배송 상태가 달라졌을 때만 한 건씩 저장
+ * 사용자는 마지막으로 받은 id 이후의 변경만 조회 (GET /api/deliveries/changes?after={id})
+ *
+ * @Table(indexes): 구독별 변경 이력 조회용 (subscription_id, id) 인덱스
+ */
+@Entity
+@Table(name = "delivery_status_change",
+        indexes = @Index(name = "idx_delivery_status_change_subscription", columnList = "subscription_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DeliveryStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subscription_id", nullable = false)
+    private DeliverySubscription subscription;
+
+    /**
+     * 변경된 배송 단계
+     */
+    @Column(nullable = false)
+    private int level;
+
+    /**
+     * 배송 완료 여부
+     */
+    @Column(nullable = false)
+    private boolean complete;
+
+    /**
+     * 마지막 배송 이력 처리 내용/위치
+     */
+    private String kind;
+
+    private String location;
+
+    /**
+     * 변경을 확인한 시각
+     */
+    @Column(nullable = false)
+    private Instant changedAt;
+}
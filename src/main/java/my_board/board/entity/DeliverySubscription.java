@@ -0,0 +1,88 @@
+package my_board.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 택배 배송 상태 구독 엔티티
+ * 사용자가 구독한 송장을 서버(DeliveryWatcher)가 주기적으로 조회하며,
+ * 마지막으로 확인한 배송 상태와 다음 조회 시각을 보관
+ *
+ * @Table(indexes): 조회 대상 선택용 (active, next_poll_at) 인덱스
+ * @Table(uniqueConstraints): 같은 사용자가 같은 송장을 중복 구독하지 않도록 제한
+ */
+@Entity
+@Table(name = "delivery_subscription",
+        indexes = @Index(name = "idx_delivery_subscription_due", columnList = "active, next_poll_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_delivery_subscription_user_invoice",
+                columnNames = {"user_email", "carrier", "invoice"}))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DeliverySubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 구독한 사용자 이메일
+     */
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    /**
+     * 택배사 코드
+     */
+    @Column(nullable = false, length = 10)
+    private String carrier;
+
+    /**
+     * 송장번호
+     */
+    @Column(nullable = false, length = 50)
+    private String invoice;
+
+    /**
+     * 마지막으로 확인한 배송 단계 (아직 조회 전이면 null)
+     */
+    private Integer lastLevel;
+
+    /**
+     * 마지막으로 확인한 배송 이력 처리 내용/위치
+     */
+    private String lastKind;
+
+    private String lastWhere;
+
+    /**
+     * 조회 중 여부 (배송 완료, 구독 기간 만료 시 false)
+     */
+    @Column(nullable = false)
+    private boolean active;
+
+    /**
+     * 현재 조회 간격 (초)
+     * 상태가 바뀌면 최소 간격으로 돌아가고, 바뀌지 않으면 최대 간격까지 두 배씩 늘어남
+     */
+    @Column(nullable = false)
+    private int pollIntervalSeconds;
+
+    /**
+     * 다음 조회 예정 시각
+     */
+    @Column(name = "next_poll_at", nullable = false)
+    private Instant nextPollAt;
+
+    /**
+     * 마지막 조회 시각
+     */
+    private Instant lastCheckedAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -3,6 +3,8 @@ package my_board.board.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import my_board.board.util.SnowflakeId;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,8 +13,11 @@ import java.util.List;
 /**
  * 게시글(Post) 엔티티
  * 사용자가 작성한 게시글 정보를 저장하는 테이블과 매핑
+ *
+ * @Table(indexes): 목록 조회(최신순 키셋 페이지네이션)용 (create_at, id) 복합 인덱스
  */
 @Entity
+@Table(indexes = @Index(name = "idx_post_create_at_id", columnList = "create_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,10 +27,10 @@ public class Post {
 
     /**
      * 게시글 고유 식별자 (Primary Key)
-     * 데이터베이스에서 자동 증가(AUTO_INCREMENT)로 생성
+     * 애플리케이션에서 시간 순서 ID로 생성 (INSERT 배치 가능, SnowflakeIdGenerator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /**
@@ -53,9 +58,30 @@ public class Post {
     /**
      * 게시글 작성 시간
      * LocalDateTime 타입으로 저장 (년-월-일 시:분:초)
+     * 인덱스 정의에서 참조하기 위해 컬럼명을 명시
      */
+    @Column(name = "create_at")
     private LocalDateTime createAt;
 
+    /**
+     * 조회수
+     * 조회할 때마다 갱신하지 않고 PostViewCounter가 모아서 주기적으로 반영 (최대 몇 초 지연)
+     * updatable = false: 게시글 수정(변경 감지 UPDATE)이 그 사이 반영된 조회수를 이전 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+     */
+    @Column(name = "view_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long viewCount;
+
+    /**
+     * 댓글 수 (삭제되지 않은 댓글)
+     * 목록 조회 시 댓글을 집계하지 않도록 CommentService가 댓글 작성/삭제 시 원자적으로 증감
+     * 어긋난 값은 CommentCountReconciler가 주기적으로 다시 계산
+     * updatable = false: 게시글 수정(변경 감지 UPDATE)이 읽어 둔 이전 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외
+     */
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
     /**
      * 게시글에 달린 댓글 리스트
      * OneToMany -> post에 여러개 댓글(comment) 달림
@@ -68,12 +94,14 @@ public class Post {
 
     /**
      * 엔티티가 처음 저장되기 전에 자동으로 호출되는 메서드
-     * 작성 시간을 현재 시간으로 자동 설정
+     * 작성 시간이 없으면 현재 시간으로 자동 설정 (가져온 게시글은 원래 작성 시간 유지)
      * 
      * @PrePersist: JPA 생명주기 콜백 어노테이션
      */
     @PrePersist
     public void prePersist() {
-        this.createAt = LocalDateTime.now();
+        if (this.createAt == null) {
+            this.createAt = LocalDateTime.now();
+        }
     }
 }
\ No newline at end of file
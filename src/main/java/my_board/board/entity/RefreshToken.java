@@ -3,14 +3,19 @@ package my_board.board.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
 
+import java.time.Instant;
+
 /**
  * Refresh Token 엔티티
  * JWT Refresh Token을 데이터베이스에 저장하여 관리
  * Access Token 재발급 시 검증에 사용
  * 
  * @Entity: JPA 엔티티로 지정
+ * @Table(indexes): 만료 토큰 일괄 삭제용 expires_at 인덱스
  * @Getter: Lombok을 통한 getter 자동 생성
  * @NoArgsConstructor(access = AccessLevel.PROTECTED): 
  *   protected 기본 생성자 생성 (JPA 요구사항 충족 + 외부 직접 생성 방지)
@@ -18,6 +23,7 @@ import lombok.*;
  * @Builder: 빌더 패턴 지원 (객체 생성 편의성)
  */
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -38,4 +44,12 @@ public class RefreshToken {
      */
     @Column(nullable = false)
     private String token;
+
+    /**
+     * Refresh Token 만료 시각
+     * 만료된 행은 RefreshTokenSweeper가 주기적으로 일괄 삭제
+     * (만료 시각 컬럼 추가 이전에 저장된 행은 null이며 만료된 것으로 간주)
+     */
+    @Column(name = "expires_at")
+    private Instant expiresAt;
 }
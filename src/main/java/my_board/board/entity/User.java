@@ -2,6 +2,7 @@ package my_board.board.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import my_board.board.util.SnowflakeId;
 
 /**
  * 사용자(User) 엔티티
@@ -23,9 +24,10 @@ public class User {
 
     /**
      * 사용자 고유 식별자 (Primary Key)
+     * 애플리케이션에서 시간 순서 ID로 생성 (INSERT 배치 가능, SnowflakeIdGenerator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /**
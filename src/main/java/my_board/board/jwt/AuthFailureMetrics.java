@@ -0,0 +1,66 @@
+package my_board.board.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 인증 실패 카운터
+ * 실패 사유별로 auth.failures{reason=...} 카운터를 증가시키고 디버그 로그를 남김
+ * (Prometheus: auth_failures_total)
+ */
+@Slf4j
+@Component
+public class AuthFailureMetrics {
+
+    /**
+     * 인증 실패 사유
+     */
+    public enum Reason {
+        /** 토큰 만료 */
+        EXPIRED,
+        /** 서명 불일치 */
+        INVALID_SIGNATURE,
+        /** 토큰 형식 오류 */
+        MALFORMED,
+        /** 지원하지 않는 토큰 형식 등 기타 JWT 오류 */
+        INVALID_TOKEN,
+        /** 토큰 없음 / 빈 문자열 */
+        MISSING,
+        /** 로그인 실패 (이메일 또는 비밀번호 오류) */
+        BAD_CREDENTIALS,
+        /** 저장된 Refresh Token 없음 */
+        REFRESH_NOT_FOUND,
+        /** 이미 교체된 Refresh Token 재사용 (탈취 의심) */
+        REFRESH_REUSED,
+        /** 재발급 요청의 Access Token과 Refresh Token 사용자 불일치 */
+        REFRESH_SUBJECT_MISMATCH
+    }
+
+    private final Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+
+    public AuthFailureMetrics(MeterRegistry registry) {
+        for (Reason reason : Reason.values()) {
+            counters.put(reason, Counter.builder("auth.failures")
+                    .description("인증 실패 횟수 (사유별)")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 인증 실패 기록
+     *
+     * @param reason 실패 사유
+     * @param detail 로그에 남길 상세 내용 (토큰 원문은 넣지 말 것)
+     */
+    public void record(Reason reason, String detail) {
+        counters.get(reason).increment();
+        log.debug("인증 실패: {} - {}", reason, detail);
+    }
+}
@@ -0,0 +1,75 @@
+package my_board.board.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 기반 Refresh Token 저장소
+ * 재발급 시 DB 왕복 없이 메모리 조회만 수행
+ *
+ * - ConcurrentHashMap의 키 단위(버킷 단위 락) compute로 조회/비교/교체를 원자적으로 처리
+ *   → 서로 다른 사용자의 재발급은 서로 막지 않음 (락 스트라이핑)
+ * - 만료된 항목은 조회 시 즉시 제거하고, RefreshTokenSweeper가 주기적으로 일괄 제거
+ * - 애플리케이션 재시작 시 토큰이 사라지므로 사용자는 다시 로그인해야 함 (단일 인스턴스 운영용)
+ */
+@Component
+@ConditionalOnProperty(name = "board.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<String, StoredToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String email, String token, Instant expiresAt) {
+        tokens.put(email, new StoredToken(token, expiresAt));
+    }
+
+    @Override
+    public RotationResult rotate(String email, String presentedToken, String newToken, Instant newExpiresAt) {
+        Instant now = Instant.now();
+        AtomicReference<RotationResult> result = new AtomicReference<>(RotationResult.NOT_FOUND);
+        tokens.compute(email, (key, current) -> {
+            if (current == null || current.isExpired(now)) {
+                result.set(RotationResult.NOT_FOUND);
+                return null;
+            }
+            if (!current.token().equals(presentedToken)) {
+                // 재사용 감지: 저장된 토큰까지 폐기하여 재로그인 유도
+                result.set(RotationResult.REUSED);
+                return null;
+            }
+            result.set(RotationResult.ROTATED);
+            return new StoredToken(newToken, newExpiresAt);
+        });
+        return result.get();
+    }
+
+    @Override
+    public void revoke(String email) {
+        tokens.remove(email);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        AtomicInteger removed = new AtomicInteger();
+        tokens.forEach((email, stored) -> {
+            if (stored.isExpired(now) && tokens.remove(email, stored)) {
+                removed.incrementAndGet();
+            }
+        });
+        return removed.get();
+    }
+
+    /**
+     * 저장된 토큰과 만료 시각
+     */
+    private record StoredToken(String token, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return expiresAt == null || !expiresAt.isAfter(now);
+        }
+    }
+}
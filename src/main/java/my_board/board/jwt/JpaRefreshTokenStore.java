@@ -0,0 +1,88 @@
+package my_board.board.jwt;
+
+import lombok.RequiredArgsConstructor;
+import my_board.board.entity.RefreshToken;
+import my_board.board.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB(refresh_token 테이블) 기반 Refresh Token 저장소
+ * 여러 애플리케이션 인스턴스가 토큰을 공유해야 하거나 재시작 후에도 로그인 상태를 유지해야 할 때 사용
+ *
+ * - 토큰 회전은 조건부 UPDATE(저장된 토큰이 같을 때만 교체)로 원자적으로 처리
+ * - 만료된 행은 일정 개수씩 나누어 삭제 (한 번에 큰 DELETE로 테이블을 오래 잠그지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * 만료 토큰 삭제 시 한 번에 처리할 행 수
+     */
+    @Value("${board.refresh-token.purge-batch-size:500}")
+    private int purgeBatchSize;
+
+    @Override
+    public void save(String email, String token, Instant expiresAt) {
+        // 동일한 이메일이 이미 존재하면 덮어쓰기 (PK가 email이므로)
+        refreshTokenRepository.save(
+                RefreshToken.builder()
+                        .email(email)
+                        .token(token)
+                        .expiresAt(expiresAt)
+                        .build()
+        );
+    }
+
+    @Override
+    public RotationResult rotate(String email, String presentedToken, String newToken, Instant newExpiresAt) {
+        Optional<RefreshToken> saved = refreshTokenRepository.findById(email);
+        if (saved.isEmpty() || isExpired(saved.get(), Instant.now())) {
+            return RotationResult.NOT_FOUND;
+        }
+
+        if (refreshTokenRepository.rotate(email, presentedToken, newToken, newExpiresAt) == 1) {
+            return RotationResult.ROTATED;
+        }
+
+        // 저장된 토큰과 다름 (이미 회전된 토큰 재사용) → 저장된 토큰까지 폐기
+        revoke(email);
+        return RotationResult.REUSED;
+    }
+
+    @Override
+    public void revoke(String email) {
+        refreshTokenRepository.deleteAllByIdInBatch(List.of(email));
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int total = 0;
+        while (true) {
+            List<String> expired = refreshTokenRepository.findExpiredEmails(now, PageRequest.of(0, purgeBatchSize));
+            if (expired.isEmpty()) {
+                return total;
+            }
+            // 배치마다 별도 트랜잭션으로 삭제 (deleteAllByIdInBatch: DELETE ... WHERE email IN (...) 한 번)
+            refreshTokenRepository.deleteAllByIdInBatch(expired);
+            total += expired.size();
+            if (expired.size() < purgeBatchSize) {
+                return total;
+            }
+        }
+    }
+
+    private boolean isExpired(RefreshToken token, Instant now) {
+        return token.getExpiresAt() == null || !token.getExpiresAt().isAfter(now);
+    }
+}
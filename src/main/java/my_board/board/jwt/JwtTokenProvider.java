@@ -1,24 +1,49 @@
 package my_board.board.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT(JSON Web Token) 토큰 생성 및 검증
  * - Access Token 및 Refresh Token 생성
  * - 토큰에서 사용자 정보(이메일, 닉네임, 권한) 추출
  * - 토큰 유효성 검증
+ *
+ * 성능:
+ * - 서명 검증용 파서는 한 번만 생성하여 재사용 (JwtParser는 불변 객체로 스레드 안전)
+ * - 검증이 끝난 토큰의 claims를 토큰 다이제스트(SHA-256) 기준으로 캐시
+ *   → 같은 토큰으로 들어오는 이후 요청은 HMAC 재검증 없이 해시 조회만 수행
+ *   → 캐시 항목은 토큰 만료 시각(exp)이 지나면 함께 제거됨
+ *
+ * 메트릭: 검증 캐시 통계(cache="jwt-verified"), 검증 실패 사유별 카운터(AuthFailureMetrics)
  */
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
     /**
      * JWT 서명에 사용되는 비밀 키
      * application.yml에 선언 KEY 명 바꿔야함
@@ -27,8 +52,63 @@ public class JwtTokenProvider {
             "my-very-secret-key-must-be-32-bytes-long!".getBytes(StandardCharsets.UTF_8)
     );
 
+    /**
+     * 서명 검증용 파서 (재사용)
+     */
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+
     private static final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 60;
 
+    private static final long REFRESH_TOKEN_VALIDITY = 1000L * 60 * 60 * 24 * 7;
+
+    /**
+     * 검증이 끝난 토큰의 claims 캐시
+     * key: 토큰 SHA-256 다이제스트, value: 검증된 claims
+     */
+    private final Cache<String, Claims> verifiedClaims;
+
+    private final AuthFailureMetrics authFailureMetrics;
+
+    /**
+     * @param verifiedCacheMaxSize 검증 완료 토큰 캐시 최대 크기
+     * @param authFailureMetrics   검증 실패 카운터
+     */
+    public JwtTokenProvider(@Value("${board.jwt.verified-cache-max-size:100000}") long verifiedCacheMaxSize,
+                            AuthFailureMetrics authFailureMetrics) {
+        this.authFailureMetrics = authFailureMetrics;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        // 토큰 만료 시각까지만 보관
+                        Date exp = claims.getExpiration();
+                        long remainingMillis = exp == null ? 0 : exp.getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 검증 캐시 메트릭 등록 (cache.gets, cache.size 등)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedClaims, "jwt-verified");
+    }
+
     /**
      * Access Token 생성
      * 사용자 인증 및 API 접근에 사용되는 단기 유효 토큰 (1시간)
@@ -52,32 +132,95 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성
      * Access Token 재발급에 사용되는 장기 유효 토큰 (7일)
+     * 같은 초에 발급해도 토큰이 서로 다르도록 고유 ID(jti)를 포함 (토큰 회전 시 재사용 감지용)
      * 
      * @param email 사용자 이메일
      * @return 생성된 JWT Refresh Token 문자열
      */
     public String createRefreshToken(String email) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24 * 7))  // 7일
+                .expiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_VALIDITY))  // 7일
                 .signWith(key)
                 .compact();
     }
 
+    /**
+     * 지금 발급하는 Refresh Token의 만료 시각
+     * Refresh Token 저장소에 만료 시각을 함께 기록할 때 사용
+     *
+     * @return 현재 시각 + 7일
+     */
+    public Instant getRefreshTokenExpiresAt() {
+        return Instant.now().plusMillis(REFRESH_TOKEN_VALIDITY);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하여 claims 반환
+     * 이미 검증한 토큰이면 캐시에서 바로 반환 (서명 재검증 없음)
+     * 
+     * @param token JWT 토큰 문자열
+     * @return 검증된 claims, 토큰이 없거나 유효하지 않으면 null
+     */
+    public Claims resolveClaims(String token) {
+        if (token == null || token.isBlank()) {
+            authFailureMetrics.record(AuthFailureMetrics.Reason.MISSING, "토큰 없음");
+            return null;
+        }
+
+        String digest = digest(token);
+        Claims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            // 캐시 만료는 비동기로 처리되므로 경계 시점에는 exp를 한 번 더 확인
+            Date exp = cached.getExpiration();
+            if (exp == null || exp.getTime() > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedClaims.invalidate(digest);
+            authFailureMetrics.record(AuthFailureMetrics.Reason.EXPIRED, "캐시된 토큰 만료");
+            return null;
+        }
+
+        Claims claims = parse(token);
+        if (claims != null) {
+            verifiedClaims.put(digest, claims);
+        }
+        return claims;
+    }
+
     /**
      * JWT 토큰에서 사용자 이메일 추출
      * 
      * @param token JWT 토큰 문자열
      * @return 토큰의 subject에 저장된 사용자 이메일
+     * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)              // 서명 키로 검증
-                .build()
-                .parseSignedClaims(token)     // 토큰 파싱
-                .getPayload()
-                .getSubject();                // 이메일 반환
+        Claims claims = resolveClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return claims.getSubject();  // 이메일 반환
+    }
+
+    /**
+     * 서명 검증 후 claims 추출 (만료된 토큰 허용)
+     * 재발급 시 Access Token의 사용자, 권한, 닉네임을 확인할 때 사용
+     *
+     * @param token JWT 토큰 문자열
+     * @return 서명이 검증된 claims, 토큰이 없거나 서명이 올바르지 않으면 null
+     */
+    public Claims resolveClaimsAllowingExpired(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return claimsAllowingExpired(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     /**
@@ -88,17 +231,7 @@ public class JwtTokenProvider {
      * @return 토큰의 claims에 저장된 닉네임
      */
     public String getNickname(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("nickname", String.class);
-        } catch (ExpiredJwtException e) {
-            // 토큰이 만료되었어도 claims에서 닉네임 추출 (재발급 시 필요)
-            return e.getClaims().get("nickname", String.class);
-        }
+        return claimsAllowingExpired(token).get("nickname", String.class);
     }
 
     /**
@@ -109,17 +242,7 @@ public class JwtTokenProvider {
      * @return 토큰의 claims에 저장된 권한 (예: ROLE_USER)
      */
     public String getRole(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("role", String.class);
-        } catch (ExpiredJwtException e) {
-            // 토큰이 만료되었어도 claims에서 권한 추출 (재발급 시 필요)
-            return e.getClaims().get("role", String.class);
-        }
+        return claimsAllowingExpired(token).get("role", String.class);
     }
 
     /**
@@ -130,22 +253,69 @@ public class JwtTokenProvider {
      * @return 토큰이 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    /**
+     * 서명 검증 및 파싱 (캐시 미사용)
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 claims, 실패 시 null
+     */
+    private Claims parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)           // 서명 키로 검증
-                    .build()
-                    .parseSignedClaims(token); // 토큰 파싱 및 검증
-            return true;
+            return parser.parseSignedClaims(token).getPayload();  // 토큰 파싱 및 검증
         } catch (ExpiredJwtException e) {
             // 토큰 만료
-            System.out.println("토큰 검증 실패: 만료됨 - " + e.getMessage());
+            authFailureMetrics.record(AuthFailureMetrics.Reason.EXPIRED, e.getMessage());
+        } catch (SignatureException e) {
+            // 서명 불일치
+            authFailureMetrics.record(AuthFailureMetrics.Reason.INVALID_SIGNATURE, e.getMessage());
+        } catch (MalformedJwtException e) {
+            // 형식 오류
+            authFailureMetrics.record(AuthFailureMetrics.Reason.MALFORMED, e.getMessage());
         } catch (JwtException e) {
-            // 서명 불일치, 형식 오류 등 기타 JWT 관련 예외
-            System.out.println("토큰 검증 실패: 기타 JWT 예외 - " + e.getClass().getSimpleName() + " - " + e.getMessage());
+            // 지원하지 않는 형식 등 기타 JWT 관련 예외
+            authFailureMetrics.record(AuthFailureMetrics.Reason.INVALID_TOKEN,
+                    e.getClass().getSimpleName() + " - " + e.getMessage());
         } catch (IllegalArgumentException e) {
             // 잘못된 인자 (null, 빈 문자열 등)
-            System.out.println("토큰 검증 실패: 잘못된 인자 - " + e.getMessage());
+            authFailureMetrics.record(AuthFailureMetrics.Reason.MISSING, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 만료된 토큰도 허용하여 claims 추출 (재발급 시 사용)
+     * 서명이 올바르지 않은 토큰은 그대로 예외 발생
+     */
+    private Claims claimsAllowingExpired(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedClaims.put(digest, claims);
+            return claims;
+        } catch (ExpiredJwtException e) {
+            // 토큰이 만료되었어도 claims 추출 (재발급 시 필요)
+            return e.getClaims();
+        }
+    }
+
+    /**
+     * 토큰 캐시 키 생성 (SHA-256 다이제스트, Base64)
+     * 토큰 원문을 캐시 키로 보관하지 않기 위해 다이제스트 사용
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package my_board.board.jwt;
+
+import java.time.Instant;
+
+/**
+ * Refresh Token 저장소 추상화
+ * 사용자(이메일)당 하나의 Refresh Token만 유지
+ *
+ * 구현체:
+ * - InMemoryRefreshTokenStore: JVM 메모리 저장 (토큰 저장/비교에 DB 미사용, 단일 인스턴스 운영용)
+ * - JpaRefreshTokenStore: DB(refresh_token 테이블) 저장 (다중 인스턴스/재시작 후에도 유지)
+ *
+ * board.refresh-token.store 설정(memory / jpa)으로 선택
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 토큰 저장 (기존 토큰이 있으면 덮어씀)
+     *
+     * @param email     사용자 이메일
+     * @param token     Refresh Token
+     * @param expiresAt 만료 시각
+     */
+    void save(String email, String token, Instant expiresAt);
+
+    /**
+     * 토큰 회전 (재발급 시 사용)
+     * 저장된 토큰과 제시된 토큰이 같으면 새 토큰으로 교체
+     * 다르면 이미 회전된(탈취 가능성이 있는) 토큰의 재사용으로 보고 저장된 토큰까지 폐기
+     *
+     * @param email          사용자 이메일
+     * @param presentedToken 클라이언트가 제시한 토큰
+     * @param newToken       새로 발급한 토큰
+     * @param newExpiresAt   새 토큰 만료 시각
+     * @return 회전 결과
+     */
+    RotationResult rotate(String email, String presentedToken, String newToken, Instant newExpiresAt);
+
+    /**
+     * 사용자 토큰 폐기
+     *
+     * @param email 사용자 이메일
+     */
+    void revoke(String email);
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 토큰 수
+     */
+    int purgeExpired(Instant now);
+
+    /**
+     * 토큰 회전 결과
+     */
+    enum RotationResult {
+        /**
+         * 새 토큰으로 교체됨
+         */
+        ROTATED,
+
+        /**
+         * 저장된 토큰과 다름 (재사용 감지, 저장된 토큰 폐기됨)
+         */
+        REUSED,
+
+        /**
+         * 저장된 토큰이 없거나 만료됨
+         */
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,34 @@
+package my_board.board.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 만료된 Refresh Token 정리 작업
+ * 설정된 주기마다 저장소에서 만료된 토큰을 일괄 삭제하여 저장소가 계속 커지지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * 만료 토큰 삭제 (기본 10분 간격)
+     */
+    @Scheduled(
+            initialDelayString = "${board.refresh-token.sweep-interval-millis:600000}",
+            fixedDelayString = "${board.refresh-token.sweep-interval-millis:600000}"
+    )
+    public void sweep() {
+        int removed = refreshTokenStore.purgeExpired(Instant.now());
+        if (removed > 0) {
+            log.info("만료된 리프레시 토큰 {}건 삭제", removed);
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package my_board.board.repository;
 
+import my_board.board.dto.CommentRowDto;
 import my_board.board.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 댓글 조회 프로젝션 공통 SELECT 절
+     * 작성자(user)는 조인으로, 게시글/부모 댓글은 FK 값만 읽어 LAZY 로딩이 발생하지 않도록 함
+     */
+    String ROW_SELECT = "select new my_board.board.dto.CommentRowDto(" +
+            "c.id, c.post.id, c.parent.id, c.content, u.nickname, u.email, c.createdAt, c.deleted) " +
+            "from Comment c join c.user u ";
     
     /**
      * 특정 게시글의 모든 댓글을 작성 시간 오름차순으로 조회
@@ -19,4 +34,152 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 해당 게시글의 댓글 리스트 (작성 시간 오름차순)
      */
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+
+    /**
+     * 특정 게시글의 모든 댓글을 작성자 정보와 함께 한 번의 쿼리로 조회 (작성 시간 오름차순)
+     * 댓글 목록 API에서 사용 (댓글마다 작성자를 따로 조회하는 N+1 방지)
+     *
+     * @param postId 조회할 게시글 ID
+     * @return 댓글 행 리스트 (작성 시간 오름차순)
+     */
+    @Query(ROW_SELECT +
+            "where c.post.id = :postId " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findRowsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 최상위 댓글 첫 페이지 조회 (작성 시간 오름차순)
+     *
+     * @param postId   게시글 ID
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 최상위 댓글 리스트
+     */
+    @Query(ROW_SELECT +
+            "where c.post.id = :postId and c.parent is null " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findRootFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 이후의 최상위 댓글 조회 (키셋 페이지네이션)
+     *
+     * @param postId    게시글 ID
+     * @param createdAt 커서의 작성 시간
+     * @param id        커서의 댓글 ID
+     * @param pageable  조회 개수 (페이지 번호는 항상 0)
+     * @return 커서 다음 위치부터의 최상위 댓글 리스트
+     */
+    @Query(ROW_SELECT +
+            "where c.post.id = :postId and c.parent is null " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findRootPageAfter(@Param("postId") Long postId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * 특정 댓글의 직계 답글 첫 페이지 조회 (작성 시간 오름차순)
+     *
+     * @param postId   게시글 ID
+     * @param parentId 부모 댓글 ID
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 직계 답글 리스트
+     */
+    @Query(ROW_SELECT +
+            "where c.post.id = :postId and c.parent.id = :parentId " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findReplyFirstPage(@Param("postId") Long postId,
+                                           @Param("parentId") Long parentId,
+                                           Pageable pageable);
+
+    /**
+     * 커서 이후의 직계 답글 조회 (키셋 페이지네이션)
+     *
+     * @param postId    게시글 ID
+     * @param parentId  부모 댓글 ID
+     * @param createdAt 커서의 작성 시간
+     * @param id        커서의 댓글 ID
+     * @param pageable  조회 개수 (페이지 번호는 항상 0)
+     * @return 커서 다음 위치부터의 직계 답글 리스트
+     */
+    @Query(ROW_SELECT +
+            "where c.post.id = :postId and c.parent.id = :parentId " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findReplyPageAfter(@Param("postId") Long postId,
+                                           @Param("parentId") Long parentId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 여러 부모 댓글의 직계 답글을 한 번에 조회 (트리 한 단계 분량)
+     *
+     * @param parentIds 부모 댓글 ID 목록
+     * @param pageable  최대 조회 개수 (페이지 번호는 항상 0)
+     * @return 답글 리스트 (작성 시간 오름차순)
+     */
+    @Query(ROW_SELECT +
+            "where c.parent.id in :parentIds " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentRowDto> findRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds, Pageable pageable);
+
+    /**
+     * 부모 댓글별 직계 답글 수 집계
+     *
+     * @param parentIds 부모 댓글 ID 목록
+     * @return [부모 댓글 ID, 답글 수] 배열 리스트 (답글이 없는 부모는 포함되지 않음)
+     */
+    @Query("select c.parent.id, count(c) from Comment c " +
+            "where c.parent.id in :parentIds " +
+            "group by c.parent.id")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    /**
+     * 삭제되지 않은 댓글만 삭제 처리 (Soft Delete)
+     * 조건부 UPDATE로 처리하여 같은 댓글에 삭제 요청이 동시에 와도 한 번만 성공 (댓글 수가 중복 감소하지 않도록)
+     *
+     * @param id      삭제할 댓글 ID
+     * @param content 삭제된 댓글에 표시할 내용
+     * @return 삭제 처리된 행 수 (0이면 이미 삭제된 댓글)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Comment c set c.deleted = true, c.content = :content " +
+            "where c.id = :id and c.deleted = false")
+    int softDelete(@Param("id") Long id, @Param("content") String content);
+
+    /**
+     * 게시글의 댓글 중 ID가 minId 이상인 답글에서 부모 댓글 참조 제거
+     * 같은 묶음 안의 부모와 답글을 DELETE 한 번으로 지울 때 FK 위반이 나지 않도록 삭제 직전에 실행
+     * (ID 범위로 제한하므로 스레드 전체가 아니라 삭제할 묶음의 행만 잠금)
+     *
+     * @param postId 게시글 ID
+     * @param minId  대상 댓글 ID 하한 (포함)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Comment c set c.parent = null where c.post.id = :postId and c.id >= :minId and c.parent is not null")
+    int detachRepliesByPostIdFrom(@Param("postId") Long postId, @Param("minId") Long minId);
+
+    /**
+     * 게시글 댓글 ID 조회 (ID 내림차순)
+     * 삭제 묶음의 마지막 ID를 찾을 때 사용 (offset = 묶음 크기 - 1, 1건)
+     *
+     * @param postId   게시글 ID
+     * @param pageable 조회 위치
+     * @return 댓글 ID 목록
+     */
+    @Query("select c.id from Comment c where c.post.id = :postId order by c.id desc")
+    List<Long> findIdsByPostIdDesc(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시글의 댓글 중 ID가 minId 이상인 댓글 삭제 (DELETE 한 번)
+     *
+     * @param postId 게시글 ID
+     * @param minId  삭제할 댓글 ID 하한 (포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId and c.id >= :minId")
+    int deleteByPostIdFrom(@Param("postId") Long postId, @Param("minId") Long minId);
 }
@@ -0,0 +1,40 @@
+package my_board.board.repository;
+
+import my_board.board.dto.DeliveryStatusChangeDto;
+import my_board.board.entity.DeliveryStatusChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * DeliveryStatusChange 엔티티에 대한 데이터 접근 계층 (Repository)
+ */
+public interface DeliveryStatusChangeRepository extends JpaRepository<DeliveryStatusChange, Long> {
+
+    /**
+     * 사용자의 구독 전체에서 after 이후의 변경 이력 조회 (id 오름차순)
+     * 변경이 없으면 빈 목록을 반환하는 가벼운 조회
+     *
+     * @param userEmail 사용자 이메일
+     * @param after     마지막으로 받은 변경 이력 ID (처음이면 0)
+     * @param pageable  최대 조회 개수 (페이지 번호는 항상 0)
+     */
+    @Query("select new my_board.board.dto.DeliveryStatusChangeDto(" +
+            "c.id, s.id, s.carrier, s.invoice, c.level, c.complete, c.kind, c.location, c.changedAt) " +
+            "from DeliveryStatusChange c join c.subscription s " +
+            "where s.userEmail = :userEmail and c.id > :after order by c.id")
+    List<DeliveryStatusChangeDto> findChangesAfter(@Param("userEmail") String userEmail,
+                                                   @Param("after") Long after,
+                                                   Pageable pageable);
+
+    /**
+     * 구독 해지 시 변경 이력 일괄 삭제
+     */
+    @Modifying
+    @Query("delete from DeliveryStatusChange c where c.subscription.id = :subscriptionId")
+    int deleteBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
+}
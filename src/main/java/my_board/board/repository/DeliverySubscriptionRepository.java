@@ -0,0 +1,42 @@
+package my_board.board.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import my_board.board.entity.DeliverySubscription;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DeliverySubscription 엔티티에 대한 데이터 접근 계층 (Repository)
+ */
+public interface DeliverySubscriptionRepository extends JpaRepository<DeliverySubscription, Long> {
+
+    /**
+     * 조회 예정 시각이 지난 구독 목록 + 행 잠금 (예정 시각이 빠른 순)
+     * SELECT ... FOR UPDATE SKIP LOCKED: 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜀
+     * (active, next_poll_at) 인덱스 사용, 트랜잭션 안에서만 호출
+     *
+     * @param now      기준 시각
+     * @param pageable 한 번에 조회할 개수 (페이지 번호는 항상 0)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))  // -2: LockOptions.SKIP_LOCKED
+    @Query("select s from DeliverySubscription s where s.active = true and s.nextPollAt <= :now order by s.nextPollAt")
+    List<DeliverySubscription> findDueForUpdate(@Param("now") Instant now, Pageable pageable);
+
+    List<DeliverySubscription> findByUserEmailOrderByIdDesc(String userEmail);
+
+    Optional<DeliverySubscription> findByUserEmailAndCarrierAndInvoice(String userEmail, String carrier, String invoice);
+
+    long countByUserEmail(String userEmail);
+
+    long countByActiveTrue();
+}
@@ -1,12 +1,149 @@
 package my_board.board.repository;
 
+import my_board.board.dto.PostSummaryDto;
+import jakarta.persistence.LockModeType;
 import my_board.board.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Post 엔티티에 대한 데이터 접근 계층 (Repository)
  * JpaRepository를 상속하여 기본 CRUD 기능 제공
  */
 public interface PostRepository extends JpaRepository<Post, Long> {
-    // 기본 메서드만 사용 (추가 쿼리 메서드 필요 시 여기에 정의)
+
+    /**
+     * 게시글 목록 첫 페이지 조회 (최신순)
+     * (createAt, id) 복합 인덱스를 역순으로 읽어 정렬 비용 없이 앞에서부터 가져옴
+     *
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 최신순 게시글 리스트
+     */
+    @Query("select p from Post p order by p.createAt desc, p.id desc")
+    List<Post> findFirstPage(Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 목록 조회 (키셋 페이지네이션)
+     * 마지막으로 받은 (createAt, id)보다 오래된 게시글부터 조회
+     * OFFSET을 쓰지 않으므로 뒤쪽 페이지로 갈수록 느려지는 문제가 없음
+     *
+     * @param createAt 커서의 작성 시간
+     * @param id       커서의 게시글 ID
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 커서 다음 위치부터의 게시글 리스트
+     */
+    @Query("select p from Post p " +
+            "where p.createAt < :createAt or (p.createAt = :createAt and p.id < :id) " +
+            "order by p.createAt desc, p.id desc")
+    List<Post> findPageAfter(@Param("createAt") LocalDateTime createAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
+
+    /**
+     * 게시글 요약 목록 첫 페이지 조회 (최신순)
+     * 목록에 필요한 컬럼만 DTO로 바로 조회하여 본문(TEXT) 컬럼을 읽지 않음
+     * 댓글 수는 게시글의 comment_count 컬럼을 그대로 읽으므로 댓글 테이블을 조회하지 않음
+     *
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 최신순 게시글 요약 리스트
+     */
+    @Query("select new my_board.board.dto.PostSummaryDto(" +
+            "p.id, p.title, p.nickname, p.createAt, p.commentCount) " +
+            "from Post p order by p.createAt desc, p.id desc")
+    List<PostSummaryDto> findSummaryFirstPage(Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 요약 목록 조회 (키셋 페이지네이션)
+     *
+     * @param createAt 커서의 작성 시간
+     * @param id       커서의 게시글 ID
+     * @param pageable 조회 개수 (페이지 번호는 항상 0)
+     * @return 커서 다음 위치부터의 게시글 요약 리스트
+     */
+    @Query("select new my_board.board.dto.PostSummaryDto(" +
+            "p.id, p.title, p.nickname, p.createAt, p.commentCount) " +
+            "from Post p " +
+            "where p.createAt < :createAt or (p.createAt = :createAt and p.id < :id) " +
+            "order by p.createAt desc, p.id desc")
+    List<PostSummaryDto> findSummaryPageAfter(@Param("createAt") LocalDateTime createAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * 댓글 수 1 증가
+     * 읽고 쓰는 대신 UPDATE 한 번으로 처리하므로 동시에 댓글이 달려도 값이 유실되지 않음
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수 (0이면 게시글 없음)
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + 1 where p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
+
+    /**
+     * 댓글 수 1 감소 (0 미만으로 내려가지 않음)
+     *
+     * @param id 게시글 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount - 1 where p.id = :id and p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
+
+    /**
+     * ID 순서로 게시글 ID 조회 (일괄 작업을 일정 개수씩 나누어 처리할 때 사용)
+     *
+     * @param afterId  이전 묶음의 마지막 게시글 ID (처음이면 0)
+     * @param pageable 한 번에 조회할 개수 (페이지 번호는 항상 0)
+     * @return 게시글 ID 목록 (오름차순)
+     */
+    @Query("select p.id from Post p where p.id > :afterId order by p.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * ID 범위 안에서 저장된 댓글 수가 실제와 다른 게시글만 다시 계산
+     * 범위마다 별도 트랜잭션으로 실행되어 한 번에 잠그는 행 수가 범위 크기로 제한됨
+     *
+     * @param fromId 범위 시작 게시글 ID (포함)
+     * @param toId   범위 끝 게시글 ID (포함)
+     * @return 보정된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = " +
+            "(select count(c) from Comment c where c.post.id = p.id and c.deleted = false) " +
+            "where p.id between :fromId and :toId " +
+            "and p.commentCount <> (select count(c) from Comment c where c.post.id = p.id and c.deleted = false)")
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 게시글 조회 + 행 잠금 (SELECT ... FOR UPDATE)
+     * 삭제 중에 같은 게시글에 댓글이 추가되지 않도록 잠금 (댓글 작성은 댓글 수 증가에서 대기)
+     *
+     * @param id 게시글 ID
+     * @return 게시글 (없으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Post p where p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 게시글 한 건 삭제 (DELETE 한 번, 댓글 컬렉션을 읽지 않음)
+     * 댓글은 먼저 CommentRepository로 삭제해야 함
+     *
+     * @param id 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Post p where p.id = :id")
+    int deleteInBulkById(@Param("id") Long id);
 }
@@ -1,12 +1,49 @@
 package my_board.board.repository;
 
 import my_board.board.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
 
 /**
  * RefreshToken 엔티티에 대한 데이터 접근 계층 (Repository)
  * 로그인 시 토큰 저장, 토큰 재발급 시 검증에 사용
+ * PK가 email이므로 단건 조회는 기본 메서드(findById) 사용
  */
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-    // 기본 메서드만 사용 (PK가 email이므로 별도 쿼리 메서드 불필요)
+
+    /**
+     * 저장된 토큰이 기대값과 같을 때만 새 토큰으로 교체 (토큰 회전)
+     * 조건부 UPDATE로 처리하여 동시에 같은 토큰으로 재발급을 요청해도 한 번만 성공
+     *
+     * @param email     사용자 이메일
+     * @param oldToken  클라이언트가 제시한 기존 토큰
+     * @param newToken  새로 발급한 토큰
+     * @param expiresAt 새 토큰 만료 시각
+     * @return 교체된 행 수 (0이면 이미 다른 토큰으로 바뀐 상태)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken r set r.token = :newToken, r.expiresAt = :expiresAt " +
+            "where r.email = :email and r.token = :oldToken")
+    int rotate(@Param("email") String email,
+               @Param("oldToken") String oldToken,
+               @Param("newToken") String newToken,
+               @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 만료된 토큰의 이메일(PK) 목록 조회 (일괄 삭제용)
+     *
+     * @param now      기준 시각
+     * @param pageable 한 번에 조회할 개수 (페이지 번호는 항상 0)
+     * @return 만료된 토큰의 이메일 목록
+     */
+    @Query("select r.email from RefreshToken r where r.expiresAt is null or r.expiresAt < :now")
+    List<String> findExpiredEmails(@Param("now") Instant now, Pageable pageable);
 }
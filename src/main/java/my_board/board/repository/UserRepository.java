@@ -2,8 +2,13 @@ package my_board.board.repository;
 
 import my_board.board.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User 엔티티에 대한 데이터 접근 계층 (Repository)
@@ -27,4 +32,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 닉네임이 존재하면 true, 아니면 false
      */
     boolean existsByNickname(String nickname);
+
+    /**
+     * 전체 닉네임 스트림 조회
+     * 닉네임 블룸 필터 구성 시 사용 (트랜잭션 안에서 사용하고 반드시 close)
+     *
+     * @return 닉네임 스트림
+     */
+    @Query("select u.nickname from User u")
+    Stream<String> streamAllNicknames();
+
+    /**
+     * 이메일 목록으로 사용자 ID 조회 (엔티티를 읽지 않고 두 컬럼만 조회)
+     * 게시글 가져오기 시 댓글 작성자 확인에 사용
+     *
+     * @param emails 이메일 목록
+     * @return [이메일, 사용자 ID] 배열 리스트 (없는 이메일은 포함되지 않음)
+     */
+    @Query("select u.email, u.id from User u where u.email in :emails")
+    List<Object[]> findIdsByEmails(@Param("emails") Collection<String> emails);
 }
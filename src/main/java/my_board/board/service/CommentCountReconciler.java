@@ -0,0 +1,94 @@
+package my_board.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 댓글 수(comment_count) 보정 작업
+ * 댓글 수는 댓글 작성/삭제 시 증감으로 관리되지만, 직접 수정한 데이터나 실패한 요청 등으로 어긋날 수 있으므로
+ * 주기적으로 실제 댓글 수와 비교하여 다른 게시글만 다시 계산
+ *
+ * - 게시글을 ID 순서로 batch-size개씩 나누어 범위마다 별도 트랜잭션으로 처리 (한 번에 큰 UPDATE로 테이블을 오래 잠그지 않도록)
+ * - 값이 같은 게시글은 갱신하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+
+    /**
+     * 한 번에 처리할 게시글 수
+     */
+    @Value("${board.comment-count.reconcile-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder runCount = new LongAdder();
+    private final LongAdder fixedCount = new LongAdder();
+
+    /**
+     * 댓글 수 보정 (기본 1시간 간격)
+     */
+    @Scheduled(
+            initialDelayString = "${board.comment-count.reconcile-interval-millis:3600000}",
+            fixedDelayString = "${board.comment-count.reconcile-interval-millis:3600000}"
+    )
+    public void scheduledReconcile() {
+        int fixed = reconcile();
+        if (fixed > 0) {
+            log.warn("댓글 수가 어긋난 게시글 {}건 보정", fixed);
+        }
+    }
+
+    /**
+     * 전체 게시글의 댓글 수를 범위 단위로 보정
+     *
+     * @return 보정된 게시글 수
+     */
+    public int reconcile() {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = postRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Long fromId = ids.get(0);
+            Long toId = ids.get(ids.size() - 1);
+            total += postRepository.reconcileCommentCounts(fromId, toId);
+            afterId = toId;
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        runCount.increment();
+        fixedCount.add(total);
+        return total;
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 실행 횟수, 보정된 게시글 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runCount", runCount.sum());
+        result.put("fixedCount", fixedCount.sum());
+        return result;
+    }
+}
@@ -3,21 +3,32 @@ package my_board.board.service;
 import lombok.RequiredArgsConstructor;
 import my_board.board.dto.CommentRequestDto;
 import my_board.board.dto.CommentResponseDto;
+import my_board.board.dto.CommentRowDto;
+import my_board.board.dto.CommentTreeDto;
+import my_board.board.dto.CursorPageDto;
 import my_board.board.entity.Comment;
 import my_board.board.entity.Post;
 import my_board.board.entity.User;
 import my_board.board.repository.CommentRepository;
 import my_board.board.repository.PostRepository;
 import my_board.board.repository.UserRepository;
+import my_board.board.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스
- * - 댓글 작성 (일반 댓글 및 대댓글)
+ * - 댓글 작성 (일반 댓글 및 대댓글, 게시글 댓글 수 증가)
  * - 댓글 목록 조회
+ * - 댓글 삭제 (Soft Delete, 게시글 댓글 수 감소)
+ * - 계층형 댓글 트리 조회 (최상위 댓글 기준 페이지네이션)
  */
 @Service
 @RequiredArgsConstructor
@@ -39,15 +50,35 @@ public class CommentService {
      */
     private final UserRepository userRepository;
 
+    /**
+     * 댓글 트리 한 페이지의 최상위 댓글 기본 / 최대 개수
+     */
+    private static final int DEFAULT_ROOT_PAGE_SIZE = 20;
+    private static final int MAX_ROOT_PAGE_SIZE = 100;
+
+    /**
+     * 댓글 트리 한 페이지에 포함할 답글 깊이 상한 (요청값이 이보다 크면 잘라냄)
+     */
+    @Value("${board.comment-tree.max-depth:5}")
+    private int maxReplyDepth;
+
+    /**
+     * 댓글 트리 한 페이지에 포함할 답글 수 상한 (모든 깊이 합산)
+     */
+    @Value("${board.comment-tree.max-replies:500}")
+    private int maxRepliesPerPage;
+
     /**
      * 댓글 작성 (일반 댓글 및 대댓글)
      * 
      * 처리 과정:
-     * 1. 게시글 존재 여부 확인
-     * 2. 사용자 존재 여부 확인
-     * 3. 대댓글인 경우 부모 댓글 확인
+     * 1. 사용자 존재 여부 확인
+     * 2. 대댓글인 경우 부모 댓글 확인
+     * 3. 게시글 댓글 수 증가 (UPDATE 한 번, 변경된 행이 없으면 게시글 없음)
      * 4. 댓글 생성 및 저장
      * 5. DTO로 변환하여 반환
+     *
+     * 게시글 행 잠금은 댓글 수 증가부터 커밋까지만 유지되도록 검증 조회를 먼저 수행
      * 
      * @param postId    댓글을 작성할 게시글 ID
      * @param userEmail 댓글 작성자 이메일
@@ -55,10 +86,6 @@ public class CommentService {
      * @return 생성된 댓글 정보
      */
     public CommentResponseDto addComment(Long postId, String userEmail, CommentRequestDto dto) {
-        // 게시글 조회 및 검증
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
         // 사용자 조회 및 검증
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -70,6 +97,12 @@ public class CommentService {
                     .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
         }
 
+        // 게시글 댓글 수 증가 (게시글 존재 여부 확인 겸용)
+        if (postRepository.incrementCommentCount(postId) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        Post post = postRepository.getReferenceById(postId);
+
         // 댓글 생성 및 저장
         Comment comment = Comment.create(post, user, parent, dto.getContent());
         Comment saved = commentRepository.save(comment);
@@ -95,18 +128,19 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getComments(Long postId) {
-        // 게시글의 모든 댓글 조회 (작성 시간 오름차순)
-        List<Comment> list = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+        // 게시글의 모든 댓글을 작성자 정보와 함께 한 번에 조회 (작성 시간 오름차순)
+        // 엔티티의 LAZY 연관관계를 거치지 않으므로 댓글 수와 관계없이 쿼리 1회
+        List<CommentRowDto> list = commentRepository.findRowsByPostId(postId);
 
-        // 엔티티를 DTO로 변환
+        // 행 DTO를 응답 DTO로 변환
         return list.stream()
                 .map(c -> CommentResponseDto.builder()
                         .id(c.getId())
-                        .postId(c.getPost().getId())
-                        .parentId(c.getParent() != null ? c.getParent().getId() : null)
+                        .postId(c.getPostId())
+                        .parentId(c.getParentId())
                         .content(c.getContent())
-                        .writerNickname(c.getUser().getNickname())
-                        .writerEmail(c.getUser().getEmail())
+                        .writerNickname(c.getWriterNickname())
+                        .writerEmail(c.getWriterEmail())
                         .createdAt(c.getCreatedAt())
                         .deleted(c.getDeleted())
                         .build())
@@ -129,6 +163,176 @@ public class CommentService {
         }
 
         // Soft Delete: 내용을 "삭제 처리 된 댓글입니다."로 변경
-        comment.markAsDeleted();
+        // 이번 요청으로 삭제 처리된 경우에만 댓글 수 감소 (이미 삭제된 댓글이면 그대로)
+        Long postId = comment.getPost().getId();
+        if (commentRepository.softDelete(commentId, Comment.DELETED_CONTENT) == 1) {
+            postRepository.decrementCommentCount(postId);
+        }
+    }
+
+    /**
+     * 계층형 댓글 트리 조회 (최상위 댓글 기준 키셋 페이지네이션)
+     *
+     * 처리 과정:
+     * 1. 최상위 댓글을 커서 위치부터 size + 1건 조회 (다음 페이지 판단용 1건 포함)
+     * 2. 깊이 단위로 직계 답글을 한 번에 조회 (깊이 / 답글 수 상한까지)
+     * 3. 조회된 모든 노드의 전체 답글 수를 한 번에 집계
+     * 4. 부모가 항상 자식보다 먼저 오도록 쌓인 행을 한 번 순회하며 트리 조립
+     *
+     * 조회 쿼리 수는 (2 + 깊이 + 1)로 제한되며, 한 페이지의 노드 수는 size + maxReplies를 넘지 않음
+     * 제한으로 답글이 잘린 노드는 repliesCursor로 getReplies()를 호출하여 나머지를 이어서 조회
+     *
+     * @param postId     게시글 ID
+     * @param cursor     이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size       최상위 댓글 수 (1 ~ 100, 기본 20)
+     * @param maxDepth   포함할 답글 깊이 (0이면 최상위 댓글만, 기본/최대값은 설정값)
+     * @param maxReplies 포함할 답글 수 (모든 깊이 합산, 기본/최대값은 설정값)
+     * @return 최상위 댓글 트리 페이지와 다음 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentTreeDto> getCommentTree(Long postId, String cursor, Integer size,
+                                                        Integer maxDepth, Integer maxReplies) {
+        int pageSize = normalizePageSize(size);
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<CommentRowDto> roots = keyset == null
+                ? commentRepository.findRootFirstPage(postId, limit)
+                : commentRepository.findRootPageAfter(postId, keyset.getCreatedAt(), keyset.getId(), limit);
+
+        return buildTreePage(roots, pageSize, maxDepth, maxReplies);
+    }
+
+    /**
+     * 특정 댓글의 답글 트리 조회 (직계 답글 기준 키셋 페이지네이션)
+     * 트리 조회에서 깊이/개수 제한으로 잘린 답글을 이어서 가져올 때 사용하며, 처리 방식은 getCommentTree()와 같음
+     *
+     * @param postId     게시글 ID
+     * @param commentId  부모 댓글 ID
+     * @param cursor     트리 노드의 repliesCursor 또는 이전 응답의 nextCursor (처음부터면 null)
+     * @param size       직계 답글 수 (1 ~ 100, 기본 20)
+     * @param maxDepth   직계 답글 아래로 포함할 깊이 (0이면 직계 답글만)
+     * @param maxReplies 직계 답글 아래로 포함할 답글 수 (모든 깊이 합산)
+     * @return 직계 답글 트리 페이지와 다음 커서 (다른 게시글의 댓글이면 빈 페이지)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentTreeDto> getReplies(Long postId, Long commentId, String cursor, Integer size,
+                                                    Integer maxDepth, Integer maxReplies) {
+        int pageSize = normalizePageSize(size);
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<CommentRowDto> replies = keyset == null
+                ? commentRepository.findReplyFirstPage(postId, commentId, limit)
+                : commentRepository.findReplyPageAfter(postId, commentId, keyset.getCreatedAt(), keyset.getId(), limit);
+
+        return buildTreePage(replies, pageSize, maxDepth, maxReplies);
+    }
+
+    /**
+     * 첫 단계 댓글(size + 1건 조회 결과) 아래로 답글을 붙여 트리 페이지 조립
+     */
+    private CursorPageDto<CommentTreeDto> buildTreePage(List<CommentRowDto> top, int pageSize,
+                                                       Integer maxDepth, Integer maxReplies) {
+        int depthLimit = clamp(maxDepth, maxReplyDepth, maxReplyDepth);
+        int replyBudget = clamp(maxReplies, maxRepliesPerPage, maxRepliesPerPage);
+
+        boolean hasNext = top.size() > pageSize;
+        if (hasNext) {
+            top = top.subList(0, pageSize);
+        }
+
+        // 1. 깊이 단위로 답글 조회 (부모 -> 자식 순서로 rows에 쌓임)
+        List<CommentRowDto> rows = new ArrayList<>(top);
+        List<Long> frontier = top.stream().map(CommentRowDto::getId).toList();
+        for (int depth = 1; depth <= depthLimit && !frontier.isEmpty() && replyBudget > 0; depth++) {
+            List<CommentRowDto> replies = commentRepository.findRepliesByParentIds(frontier, PageRequest.of(0, replyBudget));
+            rows.addAll(replies);
+            replyBudget -= replies.size();
+            frontier = replies.stream().map(CommentRowDto::getId).toList();
+        }
+
+        // 2. 전체 답글 수 집계 (생략된 답글이 있는지 클라이언트가 판단할 수 있도록)
+        Map<Long, Long> replyCounts = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> ids = rows.stream().map(CommentRowDto::getId).toList();
+            for (Object[] row : commentRepository.countRepliesByParentIds(ids)) {
+                replyCounts.put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        // 3. 부모별로 포함된 답글 수와 마지막 답글 (답글은 부모별 작성 시간 오름차순의 앞부분만 포함됨)
+        Map<Long, Integer> includedReplies = new HashMap<>();
+        Map<Long, CommentRowDto> lastReplies = new HashMap<>();
+        for (CommentRowDto c : rows.subList(top.size(), rows.size())) {
+            includedReplies.merge(c.getParentId(), 1, Integer::sum);
+            lastReplies.put(c.getParentId(), c);
+        }
+
+        // 4. 한 번의 순회로 트리 조립
+        Map<Long, CommentTreeDto> nodes = new HashMap<>();
+        List<CommentTreeDto> items = new ArrayList<>(top.size());
+        for (CommentRowDto c : rows) {
+            Long parentId = c.getParentId();
+            long replyCount = replyCounts.getOrDefault(c.getId(), 0L);
+            boolean truncated = replyCount > includedReplies.getOrDefault(c.getId(), 0);
+            CommentRowDto lastReply = lastReplies.get(c.getId());
+            CommentTreeDto node = CommentTreeDto.builder()
+                    .id(c.getId())
+                    .parentId(parentId)
+                    .content(c.getContent())
+                    .writerNickname(c.getWriterNickname())
+                    .writerEmail(c.getWriterEmail())
+                    .createdAt(c.getCreatedAt())
+                    .deleted(c.getDeleted())
+                    .replyCount(replyCount)
+                    .hasMoreReplies(truncated)
+                    .repliesCursor(truncated && lastReply != null
+                            ? new KeysetCursor(lastReply.getCreatedAt(), lastReply.getId()).encode()
+                            : null)
+                    .build();
+            nodes.put(node.getId(), node);
+
+            CommentTreeDto parent = nodes.get(parentId);
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                items.add(node);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentRowDto last = top.get(top.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageDto.<CommentTreeDto>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 페이지 크기를 허용 범위로 보정
+     */
+    private int normalizePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_ROOT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_ROOT_PAGE_SIZE);
+    }
+
+    /**
+     * 요청값을 [0, max] 범위로 보정 (null 또는 음수면 기본값)
+     */
+    private int clamp(Integer value, int defaultValue, int max) {
+        if (value == null || value < 0) {
+            return defaultValue;
+        }
+        return Math.min(value, max);
     }
 }
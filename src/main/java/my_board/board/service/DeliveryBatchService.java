@@ -0,0 +1,220 @@
+package my_board.board.service;
+
+import jakarta.annotation.PreDestroy;
+import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.dto.DeliveryTrackingResultDto;
+import my_board.board.dto.DeliveryTrackingResultDto.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 택배 일괄 조회 서비스
+ * 여러 송장을 한 번에 조회할 때 건별로 순차 호출하면 전체 응답 시간이 조회 시간의 합이 되므로
+ * 전용 스레드 풀에서 동시에 조회하여 가장 느린 한 건의 시간 안에 응답
+ *
+ * - 동시 조회 수는 스레드 풀 크기로 제한 (대기열 초과 시 해당 항목만 ERROR)
+ * - 항목별 제한 시간을 넘으면 TIMEOUT, 전체 제한 시간이 되면 완료된 결과만 반환하고 나머지는 TIMEOUT
+ * - 실제 조회는 DeliveryService를 거치므로 캐시, 동시 조회 합치기, 서킷 브레이커가 그대로 적용됨
+ * - 가상 스레드 모드에서는 조회 스레드도 가상 스레드로 생성 (외부 API 응답 대기 중 캐리어 스레드를 점유하지 않음)
+ */
+@Service
+public class DeliveryBatchService {
+
+    private final DeliveryService deliveryService;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 한 번에 조회할 수 있는 최대 송장 수
+     */
+    private final int maxItems;
+
+    /**
+     * 항목별 제한 시간 (밀리초)
+     */
+    private final long itemTimeoutMillis;
+
+    /**
+     * 전체 제한 시간 (밀리초)
+     */
+    private final long deadlineMillis;
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param deliveryService   단건 조회 서비스
+     * @param threads           동시 조회 스레드 수
+     * @param queueCapacity     대기열 최대 길이
+     * @param maxItems          요청당 최대 송장 수
+     * @param itemTimeoutMillis 항목별 제한 시간 (밀리초)
+     * @param deadlineMillis    전체 제한 시간 (밀리초)
+     * @param virtualThreads    가상 스레드 모드 여부
+     */
+    public DeliveryBatchService(
+            DeliveryService deliveryService,
+            @Value("${board.delivery-batch.threads:16}") int threads,
+            @Value("${board.delivery-batch.queue-capacity:200}") int queueCapacity,
+            @Value("${board.delivery-batch.max-items:20}") int maxItems,
+            @Value("${board.delivery-batch.item-timeout-millis:3000}") long itemTimeoutMillis,
+            @Value("${board.delivery-batch.deadline-millis:5000}") long deadlineMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.deliveryService = deliveryService;
+        this.maxItems = maxItems;
+        this.itemTimeoutMillis = itemTimeoutMillis;
+        this.deadlineMillis = deadlineMillis;
+
+        // 스레드 풀은 동시 조회 수 제한과 대기열 역할을 하므로 가상 스레드 모드에서도 유지
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("delivery-batch-v-", 1).factory()
+                : Thread.ofPlatform().name("delivery-batch-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()  // 대기열 초과 시 RejectedExecutionException
+        );
+    }
+
+    /**
+     * 택배 일괄 조회
+     *
+     * @param requests 조회할 송장 목록
+     * @return 요청 순서와 같은 순서의 조회 결과 목록
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 개수 초과
+     */
+    public List<DeliveryTrackingResultDto> trackDeliveries(List<DeliveryRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("조회할 송장이 없습니다.");
+        }
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxItems + "건까지 조회할 수 있습니다.");
+        }
+        batchCount.increment();
+
+        // 모든 항목을 동시에 시작
+        List<CompletableFuture<String>> futures = new ArrayList<>(requests.size());
+        for (DeliveryRequestDto request : requests) {
+            futures.add(submit(request));
+        }
+
+        // 전체 제한 시간까지 대기 (개별 실패는 아래에서 항목별로 처리)
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(deadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+            // 완료되지 않은 항목은 TIMEOUT으로 응답
+        }
+
+        List<DeliveryTrackingResultDto> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(toResult(requests.get(i), futures.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * 단건 조회를 스레드 풀에 제출
+     */
+    private CompletableFuture<String> submit(DeliveryRequestDto request) {
+        if (request == null || isBlank(request.getCarrier()) || isBlank(request.getInvoice())) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("택배사 코드와 송장번호를 입력해주세요."));
+        }
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> new String(
+                            deliveryService.trackDelivery(request.getCarrier(), request.getInvoice()),
+                            StandardCharsets.UTF_8), executor)
+                    .orTimeout(itemTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new UpstreamUnavailableException("요청이 많아 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    /**
+     * 조회 결과를 응답 항목으로 변환
+     */
+    private DeliveryTrackingResultDto toResult(DeliveryRequestDto request, CompletableFuture<String> future) {
+        DeliveryTrackingResultDto.DeliveryTrackingResultDtoBuilder builder = DeliveryTrackingResultDto.builder()
+                .carrier(request == null ? null : request.getCarrier())
+                .invoice(request == null ? null : request.getInvoice());
+
+        if (!future.isDone()) {
+            // 전체 제한 시간 초과: 결과를 기다리지 않음 (진행 중인 조회는 캐시에 채워져 다음 요청에 사용됨)
+            future.cancel(false);
+            timeoutCount.increment();
+            return builder.status(Status.TIMEOUT).message("조회 시간이 초과되었습니다.").build();
+        }
+
+        try {
+            return builder.status(Status.OK).result(future.join()).build();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                timeoutCount.increment();
+                return builder.status(Status.TIMEOUT).message("조회 시간이 초과되었습니다.").build();
+            }
+            return builder.status(Status.ERROR).message(cause == null ? e.getMessage() : cause.getMessage()).build();
+        }
+    }
+
+    /**
+     * 한 번에 조회할 수 있는 최대 송장 수
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 일괄 조회 건수, 시간 초과/거절 항목 수, 스레드 풀 상태
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("batchCount", batchCount.sum());
+        result.put("timeoutCount", timeoutCount.sum());
+        result.put("rejectedCount", rejectedCount.sum());
+        result.put("poolSize", executor.getMaximumPoolSize());
+        result.put("activeCount", executor.getActiveCount());
+        result.put("queueDepth", executor.getQueue().size());
+        return result;
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,63 +1,61 @@
 package my_board.board.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
+import my_board.board.cache.TrackingResultCache;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * 택배 배송 조회 서비스
  * 스마트택배 API를 사용하여 택배 배송 정보를 조회
  * API 문서: https://tracking.sweettracker.co.kr:8443/templates/app.html#/
+ *
+ * 같은 송장번호를 반복 조회하는 경우를 위해 조회 결과를 TrackingResultCache에 보관
  */
 @Service
 @RequiredArgsConstructor
 public class DeliveryService {
 
     /**
-     * 스마트택배 API 키
-     * Git에 올릴때 노출되지않게 application.properties에서 주입
+     * 스마트택배 API 호출 클라이언트 (연결 풀, 타임아웃, 서킷 브레이커, 동시 호출 제한)
      */
-    @Value("${smarttracker.key}")
-    private String SMART_API_KEY;
+    private final SweetTrackerClient sweetTrackerClient;
 
-    private final RestTemplate restTemplate;
+    /**
+     * 조회 결과 캐시 (동일 송장 동시 조회 합치기 포함)
+     */
+    private final TrackingResultCache trackingResultCache;
 
     /**
      * 택배 배송 조회
      * 스마트택배 API를 호출하여 택배 배송 정보를 조회
      * - 택배사 코드와 송장번호로 배송 현황 조회
      * - 실시간 배송 위치 및 배송 단계 정보 제공
+     * - 캐시에 있으면 외부 API를 호출하지 않음 (배송 완료는 길게, 배송 중은 짧게 보관)
      * 
      * @param carrierCode   택배사 코드 (예: "04" - CJ대한통운, "05" - 한진택배)
      * @param invoiceNumber 송장번호
-     * @return Sweet Tracker API 응답 JSON 문자열
+     * @return Sweet Tracker API 응답 JSON (UTF-8 바이트, 응답 본문에 그대로 씀)
+     * @throws UpstreamUnavailableException 외부 API를 사용할 수 없는 경우 (차단, 동시 호출 초과, 타임아웃)
      */
     
-    public Object trackDelivery(String carrierCode, String invoiceNumber) {
-        // API URL 생성 (쿼리 파라미터 포함)
-        String url = String.format(
-                "https://info.sweettracker.co.kr/api/v1/trackingInfo?t_key=%s&t_code=%s&t_invoice=%s",
-                SMART_API_KEY, 
-                carrierCode.trim(),      // 앞뒤 공백 제거
-                invoiceNumber.trim()     // 앞뒤 공백 제거
-        );
-
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Accept", "application/json;charset=UTF-8");
-
-        // HTTP 요청 엔티티 생성 (헤더만 포함, 본문 없음)
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
-        // POST 요청 전송 및 응답 수신
-        ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-        
-        // 응답 본문 반환 (JSON 문자열)
-        return response.getBody();
+    public byte[] trackDelivery(String carrierCode, String invoiceNumber) {
+        return trackingResultCache.get(carrierCode, invoiceNumber,
+                () -> sweetTrackerClient.track(carrierCode, invoiceNumber));
+    }
+
+    /**
+     * 조회 캐시 및 외부 API 호출 통계
+     *
+     * @return 캐시 히트율, 외부 API 호출 수/오류 수/평균/최대 응답 시간, 서킷 브레이커 상태
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache", trackingResultCache.stats());
+        result.put("upstream", sweetTrackerClient.stats());
+        return result;
     }
 
 }
@@ -0,0 +1,269 @@
+package my_board.board.service;
+
+import lombok.RequiredArgsConstructor;
+import my_board.board.dto.DeliveryStatusChangeDto;
+import my_board.board.dto.DeliverySubscriptionDto;
+import my_board.board.entity.DeliveryStatusChange;
+import my_board.board.entity.DeliverySubscription;
+import my_board.board.repository.DeliveryStatusChangeRepository;
+import my_board.board.repository.DeliverySubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 택배 배송 상태 구독 서비스
+ * 클라이언트가 같은 송장을 반복 조회하는 대신 구독을 등록하면 DeliveryWatcher가 서버에서 조회하고,
+ * 배송 상태가 바뀐 경우에만 변경 이력을 저장하여 클라이언트는 변경 이력만 가볍게 확인
+ *
+ * 조회 간격 (적응형):
+ * - 상태가 바뀌면 최소 간격으로 되돌림
+ * - 상태가 그대로이거나 조회에 실패하면 최대 간격까지 두 배씩 늘림
+ * - 배송 완료 또는 구독 기간이 지나면 조회 중단
+ *
+ * 여러 인스턴스가 함께 조회해도 같은 구독을 중복 조회하지 않도록 claimDue가 조회할 구독을 선점
+ */
+@Service
+@RequiredArgsConstructor
+public class DeliveryWatchService {
+
+    /**
+     * 변경 이력 한 번 조회의 기본 / 최대 크기
+     */
+    private static final int DEFAULT_CHANGE_PAGE_SIZE = 50;
+    private static final int MAX_CHANGE_PAGE_SIZE = 100;
+
+    private final DeliverySubscriptionRepository subscriptionRepository;
+
+    private final DeliveryStatusChangeRepository statusChangeRepository;
+
+    /**
+     * 최소 / 최대 조회 간격 (초)
+     */
+    @Value("${board.delivery-watch.min-interval-seconds:60}")
+    private int minIntervalSeconds;
+
+    @Value("${board.delivery-watch.max-interval-seconds:3600}")
+    private int maxIntervalSeconds;
+
+    /**
+     * 구독 후 조회를 계속하는 최대 기간 (일)
+     */
+    @Value("${board.delivery-watch.max-watch-days:14}")
+    private int maxWatchDays;
+
+    /**
+     * 선점한 구독을 다른 인스턴스가 다시 가져가지 않는 시간 (초)
+     * 조회 결과를 반영하면 다음 조회 시각이 새로 정해지고, 반영 전에 인스턴스가 죽으면 이 시간 뒤에 다시 조회
+     */
+    @Value("${board.delivery-watch.claim-lease-seconds:300}")
+    private int claimLeaseSeconds;
+
+    /**
+     * 사용자당 최대 구독 수
+     */
+    @Value("${board.delivery-watch.max-subscriptions-per-user:20}")
+    private int maxSubscriptionsPerUser;
+
+    /**
+     * 조회 결과 (DeliveryWatcher -> 서비스)
+     *
+     * @param subscriptionId 구독 ID
+     * @param status         조회한 배송 상태 (조회 실패 시 null)
+     */
+    public record PollOutcome(Long subscriptionId, TrackingStatus status) {
+    }
+
+    /**
+     * 송장 구독 등록
+     * 이미 구독 중인 송장이면 기존 구독을 반환하고, 조회가 끝난 구독이면 다시 조회를 시작
+     *
+     * @param userEmail 사용자 이메일
+     * @param carrier   택배사 코드
+     * @param invoice   송장번호
+     * @return 구독 정보
+     * @throws IllegalArgumentException 입력값 누락 또는 구독 수 초과
+     */
+    @Transactional
+    public DeliverySubscriptionDto subscribe(String userEmail, String carrier, String invoice) {
+        if (carrier == null || carrier.isBlank() || invoice == null || invoice.isBlank()) {
+            throw new IllegalArgumentException("택배사 코드와 송장번호를 입력해주세요.");
+        }
+        String carrierCode = carrier.trim();
+        String invoiceNumber = invoice.trim();
+        Instant now = Instant.now();
+
+        DeliverySubscription subscription = subscriptionRepository
+                .findByUserEmailAndCarrierAndInvoice(userEmail, carrierCode, invoiceNumber)
+                .orElse(null);
+        if (subscription != null) {
+            if (!subscription.isActive() && !isFinalLevel(subscription.getLastLevel())) {
+                subscription.setActive(true);
+                subscription.setCreatedAt(now);
+                subscription.setPollIntervalSeconds(minIntervalSeconds);
+                subscription.setNextPollAt(now);
+            }
+            return DeliverySubscriptionDto.from(subscription);
+        }
+
+        if (subscriptionRepository.countByUserEmail(userEmail) >= maxSubscriptionsPerUser) {
+            throw new IllegalArgumentException("구독은 최대 " + maxSubscriptionsPerUser + "건까지 등록할 수 있습니다.");
+        }
+
+        subscription = DeliverySubscription.builder()
+                .userEmail(userEmail)
+                .carrier(carrierCode)
+                .invoice(invoiceNumber)
+                .active(true)
+                .pollIntervalSeconds(minIntervalSeconds)
+                .nextPollAt(now)  // 다음 조회 주기에 바로 첫 조회
+                .createdAt(now)
+                .build();
+        return DeliverySubscriptionDto.from(subscriptionRepository.save(subscription));
+    }
+
+    /**
+     * 사용자의 구독 목록 조회 (최근 등록 순)
+     */
+    @Transactional(readOnly = true)
+    public List<DeliverySubscriptionDto> getSubscriptions(String userEmail) {
+        return subscriptionRepository.findByUserEmailOrderByIdDesc(userEmail).stream()
+                .map(DeliverySubscriptionDto::from)
+                .toList();
+    }
+
+    /**
+     * 구독 해지 (변경 이력 포함 삭제)
+     *
+     * @throws IllegalArgumentException 구독이 없거나 다른 사용자의 구독
+     */
+    @Transactional
+    public void unsubscribe(String userEmail, Long subscriptionId) {
+        DeliverySubscription subscription = subscriptionRepository.findById(subscriptionId)
+                .filter(s -> s.getUserEmail().equals(userEmail))
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+        statusChangeRepository.deleteBySubscriptionId(subscription.getId());
+        subscriptionRepository.delete(subscription);
+    }
+
+    /**
+     * 마지막으로 받은 변경 이력 이후의 배송 상태 변경 조회
+     * 클라이언트는 응답의 마지막 id를 다음 요청의 after로 사용
+     *
+     * @param userEmail 사용자 이메일
+     * @param after     마지막으로 받은 변경 이력 ID (처음이면 null 또는 0)
+     * @param size      최대 개수 (기본 50, 최대 100)
+     */
+    @Transactional(readOnly = true)
+    public List<DeliveryStatusChangeDto> getChanges(String userEmail, Long after, Integer size) {
+        int pageSize = size == null ? DEFAULT_CHANGE_PAGE_SIZE : Math.max(1, Math.min(size, MAX_CHANGE_PAGE_SIZE));
+        return statusChangeRepository.findChangesAfter(userEmail, after == null ? 0L : after, PageRequest.of(0, pageSize));
+    }
+
+    /**
+     * 조회 예정 시각이 지난 구독 선점
+     * 다른 인스턴스가 잠근 행은 건너뛰고(SKIP LOCKED), 가져온 구독의 다음 조회 시각을 선점 시간만큼 미룬 뒤 커밋하므로
+     * 인스턴스가 여러 대여도 한 구독은 한 인스턴스만 조회하고, 주기당 조회 수는 인스턴스마다 limit을 넘지 않음
+     *
+     * @param now   기준 시각
+     * @param limit 최대 개수 (한 주기의 조회 예산)
+     * @return 선점한 구독 목록 (예정 시각이 빠른 순)
+     */
+    @Transactional
+    public List<DeliverySubscription> claimDue(Instant now, int limit) {
+        List<DeliverySubscription> due = subscriptionRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+        Instant leaseUntil = now.plusSeconds(claimLeaseSeconds);
+        for (DeliverySubscription subscription : due) {
+            subscription.setNextPollAt(leaseUntil);
+        }
+        return due;
+    }
+
+    /**
+     * 조회 결과 반영
+     * 상태가 바뀐 구독만 변경 이력을 저장하고, 모든 구독의 다음 조회 시각을 갱신
+     *
+     * @param outcomes 조회 결과 목록
+     * @param now      조회 시각
+     * @return 저장한 변경 이력 수
+     */
+    @Transactional
+    public int applyOutcomes(List<PollOutcome> outcomes, Instant now) {
+        Map<Long, DeliverySubscription> subscriptions = subscriptionRepository
+                .findAllById(outcomes.stream().map(PollOutcome::subscriptionId).toList())
+                .stream()
+                .collect(Collectors.toMap(DeliverySubscription::getId, Function.identity()));
+
+        int changes = 0;
+        for (PollOutcome outcome : outcomes) {
+            DeliverySubscription subscription = subscriptions.get(outcome.subscriptionId());
+            if (subscription == null) {
+                continue;  // 조회 중 구독 해지
+            }
+            if (apply(subscription, outcome.status(), now)) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 구독 하나에 조회 결과 반영
+     *
+     * @return 변경 이력을 저장했으면 true
+     */
+    private boolean apply(DeliverySubscription subscription, TrackingStatus status, Instant now) {
+        subscription.setLastCheckedAt(now);
+
+        boolean changed = status != null && !status.isError()
+                && status.isChangedFrom(subscription.getLastLevel(), subscription.getLastKind(), subscription.getLastWhere());
+        if (changed) {
+            subscription.setLastLevel(status.getLevel());
+            subscription.setLastKind(status.getLastKind());
+            subscription.setLastWhere(status.getLastWhere());
+            statusChangeRepository.save(DeliveryStatusChange.builder()
+                    .subscription(subscription)
+                    .level(status.getLevel())
+                    .complete(status.isComplete())
+                    .kind(status.getLastKind())
+                    .location(status.getLastWhere())
+                    .changedAt(now)
+                    .build());
+        }
+
+        boolean delivered = status != null && !status.isError() && status.isFinal();
+        boolean expired = subscription.getCreatedAt().plus(Duration.ofDays(maxWatchDays)).isBefore(now);
+        if (delivered || expired) {
+            // 배송 완료 또는 구독 기간 만료: 더 이상 조회하지 않음
+            subscription.setActive(false);
+            return changed;
+        }
+
+        int interval = changed
+                ? minIntervalSeconds
+                : Math.min(subscription.getPollIntervalSeconds() * 2, maxIntervalSeconds);
+        subscription.setPollIntervalSeconds(interval);
+        subscription.setNextPollAt(now.plusSeconds(interval));
+        return changed;
+    }
+
+    private static boolean isFinalLevel(Integer level) {
+        return level != null && new TrackingStatus(level, false, false).isFinal();
+    }
+
+    /**
+     * 조회 중인 구독 수
+     */
+    @Transactional(readOnly = true)
+    public long countActive() {
+        return subscriptionRepository.countByActiveTrue();
+    }
+}
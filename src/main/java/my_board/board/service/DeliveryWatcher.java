@@ -0,0 +1,129 @@
+package my_board.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.dto.DeliveryTrackingResultDto;
+import my_board.board.entity.DeliverySubscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 택배 배송 상태 구독 조회 작업
+ * 설정된 주기마다 조회 예정 시각이 지난 구독을 모아 일괄 조회하고 결과를 DeliveryWatchService에 반영
+ *
+ * - 한 주기에 조회하는 송장 수를 max-polls-per-tick으로 제한하여 외부 API 호출량의 상한을 서버가 정함
+ *   (예: 10초 주기 x 20건 = 분당 최대 120건)
+ * - 밀린 구독은 다음 주기로 넘어가며, 예정 시각이 빠른 구독부터 조회
+ * - 조회는 DeliveryBatchService를 거치므로 캐시, 서킷 브레이커, 동시 호출 제한이 그대로 적용됨
+ * - 조회할 구독은 DeliveryWatchService.claimDue로 선점하므로 여러 인스턴스에서 실행해도 같은 송장을 중복 조회하지 않음
+ *   (외부 API 호출 상한은 인스턴스 수 x max-polls-per-tick)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryWatcher {
+
+    private final DeliveryWatchService deliveryWatchService;
+
+    private final DeliveryBatchService deliveryBatchService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 한 주기에 조회할 최대 송장 수 (조회 예산)
+     */
+    @Value("${board.delivery-watch.max-polls-per-tick:20}")
+    private int maxPollsPerTick;
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder tickCount = new LongAdder();
+    private final LongAdder pollCount = new LongAdder();
+    private final LongAdder failedPollCount = new LongAdder();
+    private final LongAdder changeCount = new LongAdder();
+
+    /**
+     * 조회 예정 구독 일괄 조회 (기본 10초 간격)
+     */
+    @Scheduled(
+            initialDelayString = "${board.delivery-watch.tick-millis:10000}",
+            fixedDelayString = "${board.delivery-watch.tick-millis:10000}"
+    )
+    public void poll() {
+        Instant now = Instant.now();
+        List<DeliverySubscription> due = deliveryWatchService.claimDue(now, maxPollsPerTick);
+        if (due.isEmpty()) {
+            return;
+        }
+        tickCount.increment();
+
+        // 일괄 조회 한 번의 최대 건수 단위로 나누어 조회
+        int chunkSize = deliveryBatchService.getMaxItems();
+        List<DeliveryWatchService.PollOutcome> outcomes = new ArrayList<>(due.size());
+        for (int from = 0; from < due.size(); from += chunkSize) {
+            List<DeliverySubscription> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+            outcomes.addAll(track(chunk));
+        }
+
+        int changes = deliveryWatchService.applyOutcomes(outcomes, Instant.now());
+        changeCount.add(changes);
+        log.debug("배송 상태 구독 {}건 조회, 변경 {}건", due.size(), changes);
+    }
+
+    /**
+     * 구독 목록을 한 번에 조회하여 배송 상태로 변환 (실패한 항목은 상태 null)
+     */
+    private List<DeliveryWatchService.PollOutcome> track(List<DeliverySubscription> chunk) {
+        List<DeliveryRequestDto> requests = new ArrayList<>(chunk.size());
+        for (DeliverySubscription subscription : chunk) {
+            DeliveryRequestDto request = new DeliveryRequestDto();
+            request.setCarrier(subscription.getCarrier());
+            request.setInvoice(subscription.getInvoice());
+            requests.add(request);
+        }
+
+        List<DeliveryTrackingResultDto> results = deliveryBatchService.trackDeliveries(requests);
+
+        List<DeliveryWatchService.PollOutcome> outcomes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            DeliveryTrackingResultDto result = results.get(i);
+            TrackingStatus status = null;
+            if (result.getStatus() == DeliveryTrackingResultDto.Status.OK && result.getResult() != null) {
+                status = TrackingStatus.parse(objectMapper, result.getResult().getBytes(StandardCharsets.UTF_8));
+            } else {
+                failedPollCount.increment();
+            }
+            pollCount.increment();
+            outcomes.add(new DeliveryWatchService.PollOutcome(chunk.get(i).getId(), status));
+        }
+        return outcomes;
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 조회 중인 구독 수, 조회/실패/변경 건수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeSubscriptions", deliveryWatchService.countActive());
+        result.put("maxPollsPerTick", maxPollsPerTick);
+        result.put("tickCount", tickCount.sum());
+        result.put("pollCount", pollCount.sum());
+        result.put("failedPollCount", failedPollCount.sum());
+        result.put("changeCount", changeCount.sum());
+        return result;
+    }
+}
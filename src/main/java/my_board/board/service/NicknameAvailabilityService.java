@@ -0,0 +1,136 @@
+package my_board.board.service;
+
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.repository.UserRepository;
+import my_board.board.util.StringBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 닉네임 사용 가능 여부 확인 서비스
+ * 회원가입 화면에서 입력할 때마다 호출되는 닉네임 중복 확인을 블룸 필터로 먼저 걸러냄
+ *
+ * - 시작 시 User.nickname 전체로 블룸 필터를 구성하고, 회원가입 시 새 닉네임을 추가
+ * - 필터에 없으면 확실히 사용 가능 → DB 조회 없이 응답
+ * - 필터에 있으면(오탐 포함) DB에서 최종 확인
+ * - 필터 구성이 끝나기 전에는 항상 DB로 확인
+ *
+ * 주의: 필터는 인스턴스마다 따로 있으며, 시작 후에는 자기 인스턴스에서 처리한 회원가입만 반영됨
+ * 여러 인스턴스로 운영하면 다른 인스턴스에서 가입한 닉네임은 이 인스턴스가 재시작할 때까지 "사용 가능"으로 응답할 수 있음
+ * (실제 중복 가입은 user.nickname 유니크 제약이 막음)
+ */
+@Slf4j
+@Service
+public class NicknameAvailabilityService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 닉네임 블룸 필터
+     * 구성 중에도 회원가입으로 추가되는 닉네임을 받을 수 있도록 생성 즉시 참조를 공개하고,
+     * 구성 완료 여부는 ready로 구분
+     */
+    private final StringBloomFilter filter;
+    private volatile boolean ready = false;
+
+    /**
+     * 통계: DB 조회 없이 응답한 횟수 / DB로 넘어간 횟수
+     */
+    private final LongAdder filteredCount = new LongAdder();
+    private final LongAdder databaseCount = new LongAdder();
+
+    /**
+     * @param userRepository     사용자 Repository
+     * @param expectedInsertions 예상 닉네임 수 (필터 크기 결정)
+     * @param falsePositiveRate  목표 오탐률
+     */
+    public NicknameAvailabilityService(
+            UserRepository userRepository,
+            @Value("${board.nickname-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${board.nickname-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.filter = new StringBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 애플리케이션 시작 완료 후 기존 닉네임 전체로 필터 구성
+     * 전체 목록을 메모리에 올리지 않도록 스트림으로 한 건씩 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildFilter() {
+        long start = System.currentTimeMillis();
+        try (Stream<String> nicknames = userRepository.streamAllNicknames()) {
+            nicknames.forEach(nickname -> filter.put(normalize(nickname)));
+        }
+        ready = true;
+        log.info("닉네임 블룸 필터 구성 완료: {}건, {}ms", filter.insertionCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 닉네임 사용 중 여부 확인
+     *
+     * @param nickname 확인할 닉네임
+     * @return 이미 사용 중이면 true
+     */
+    public boolean isTaken(String nickname) {
+        if (ready && !filter.mightContain(normalize(nickname))) {
+            // 필터에 없으면 확실히 사용 가능
+            filteredCount.increment();
+            return false;
+        }
+        databaseCount.increment();
+        return userRepository.existsByNickname(nickname);
+    }
+
+    /**
+     * 새로 가입한 닉네임을 필터에 추가
+     * 트랜잭션이 롤백되어도 오탐이 하나 늘어날 뿐 결과는 DB에서 확인되므로 안전
+     *
+     * @param nickname 가입한 닉네임
+     */
+    public void register(String nickname) {
+        filter.put(normalize(nickname));
+    }
+
+    /**
+     * 필터 통계 조회
+     *
+     * @return 구성 여부, 원소 수, 비트 수, DB 조회 없이 응답한 비율 등
+     */
+    public Map<String, Object> stats() {
+        long filtered = filteredCount.sum();
+        long database = databaseCount.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ready", ready);
+        result.put("insertions", filter.insertionCount());
+        result.put("bitSize", filter.bitSize());
+        result.put("hashCount", filter.hashCount());
+        result.put("filteredCount", filtered);
+        result.put("databaseCount", database);
+        result.put("filteredRate", filtered + database == 0 ? 0.0 : filtered / (double) (filtered + database));
+        return result;
+    }
+
+    /**
+     * 필터 키 정규화
+     * MySQL 기본 정렬 규칙(utf8mb4_unicode_ci)은 대소문자/악센트/끝 공백을 구분하지 않으므로
+     * 필터도 같은 기준으로 비교해야 "확실히 없음" 판정이 틀리지 않음
+     * (정규화를 넓게 할수록 오탐만 늘어나고 결과는 DB에서 확인되므로 안전)
+     */
+    private static String normalize(String nickname) {
+        String decomposed = Normalizer.normalize(nickname, Normalizer.Form.NFKD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT).strip();
+    }
+}
@@ -0,0 +1,12 @@
+package my_board.board.service;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼거나 제한 시간 안에 처리되지 못한 경우 발생하는 예외
+ * 컨트롤러에서 503 Service Unavailable로 응답하여 클라이언트가 잠시 후 재시도하도록 함
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,208 @@
+package my_board.board.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행 서비스
+ * BCrypt는 의도적으로 느린 CPU 작업이므로 Tomcat 요청 스레드에서 직접 실행하면
+ * 로그인 요청이 몰릴 때 모든 요청 스레드가 해시 계산에 묶여 게시글 조회 같은 가벼운 요청까지 멈춤
+ *
+ * - 고정 크기 전용 스레드 풀 + 크기 제한 대기열에서 해시/검증 실행
+ * - 대기열이 가득 차면 즉시 PasswordHashingBusyException 발생 (빠른 실패, 503 응답)
+ * - 대기열 길이, 처리 시간 통계 제공
+ * - 가상 스레드 모드에서도 플랫폼 스레드 풀 유지 (CPU 작업은 가상 스레드로 옮겨도 동시성이 늘지 않고,
+ *   요청 스레드는 가상 스레드이므로 결과를 기다리는 동안 캐리어 스레드를 점유하지 않음)
+ */
+@Service
+public class PasswordHashingService implements MeterBinder {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 요청 스레드가 결과를 기다리는 최대 시간 (밀리초)
+     */
+    private final long timeoutMillis;
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    /**
+     * @param passwordEncoder BCrypt 인코더
+     * @param threads         전용 스레드 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity   대기열 최대 길이
+     * @param timeoutMillis   결과 대기 제한 시간 (밀리초)
+     */
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${board.password-hashing.threads:0}") int threads,
+            @Value("${board.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${board.password-hashing.timeout-millis:3000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()  // 대기열 초과 시 RejectedExecutionException
+        );
+    }
+
+    /**
+     * 비밀번호 암호화 (회원가입)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 초과
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (로그인)
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 일치하면 true
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 초과
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 전용 스레드 풀에서 작업을 실행하고 결과를 기다림
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    recordLatency(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingBusyException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        completedCount.increment();
+        totalHashNanos.add(nanos);
+        maxHashNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 현재 대기열 길이
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 메트릭 등록
+     * - password.hashing: 해시 건수/누적 시간
+     * - password.hashing.queue.depth, password.hashing.active: 대기열 길이, 실행 중 작업 수
+     * - password.hashing.rejected: 대기열 초과/시간 초과로 거절된 건수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("password.hashing", this,
+                        s -> s.completedCount.sum(), s -> s.totalHashNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("BCrypt 해시/검증 처리 시간")
+                .register(registry);
+        Gauge.builder("password.hashing.queue.depth", this, PasswordHashingService::getQueueDepth)
+                .register(registry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", rejectedCount, LongAdder::sum)
+                .register(registry);
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 대기열 길이, 실행 중 작업 수, 처리/거절 건수, 평균/최대 해시 시간
+     */
+    public Map<String, Object> stats() {
+        long completed = completedCount.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("poolSize", executor.getMaximumPoolSize());
+        result.put("activeCount", executor.getActiveCount());
+        result.put("queueDepth", getQueueDepth());
+        result.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        result.put("completedCount", completed);
+        result.put("rejectedCount", rejectedCount.sum());
+        result.put("averageHashMillis", completed == 0 ? 0.0 : totalHashNanos.sum() / (double) completed / 1_000_000.0);
+        result.put("maxHashMillis", maxHashNanos.get() / 1_000_000.0);
+        return result;
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
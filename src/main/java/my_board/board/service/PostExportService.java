@@ -0,0 +1,183 @@
+package my_board.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.dto.CommentArchiveDto;
+import my_board.board.dto.PostArchiveDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 게시글/댓글 내보내기 서비스 (NDJSON)
+ * 한 줄에 게시글 하나와 그 댓글 전체를 기록하며, 형식은 가져오기(PostImportService)와 같음
+ *
+ * 처리 방식:
+ * - 게시글과 댓글을 (게시글 ID, 댓글 ID) 순서로 조인한 한 번의 쿼리를 DB 커서로 앞에서부터 읽음
+ *   (결과 전체를 메모리에 올리지 않음, MySQL은 fetch-size를 Integer.MIN_VALUE로 두면 이 쿼리만 행 단위로 스트리밍)
+ * - 엔티티가 아닌 컬럼 값으로 읽으므로 영속성 컨텍스트에 쌓이지 않음
+ * - 게시글 ID가 바뀔 때마다 이전 게시글을 한 줄로 기록하므로 메모리에는 게시글 하나의 댓글만 유지됨
+ * - 게시글 ID 오름차순으로 기록하므로 연결이 끊기면 마지막으로 받은 줄의 id를 after로 넘겨 이어받을 수 있음
+ *
+ * 조인 결과에는 댓글마다 게시글 컬럼이 반복되지만, 한 연결에서 결과를 스트리밍하는 동안에는
+ * 다른 쿼리를 실행할 수 없으므로(MySQL) 게시글별로 댓글을 따로 조회하지 않고 한 쿼리로 읽음
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    private static final String EXPORT_QUERY =
+            "select p.id, p.title, p.content, p.email, p.nickname, p.createAt, p.viewCount, " +
+            "c.id, c.parent.id, c.content, u.email, c.createdAt, c.deleted " +
+            "from Post p left join Comment c on c.post = p left join c.user u " +
+            "where p.id > :after " +
+            "order by p.id asc, c.id asc";
+
+    private final ObjectWriter writer;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 내보내기 쿼리의 JDBC fetch size (Integer.MIN_VALUE면 MySQL 행 단위 스트리밍)
+     */
+    private final int fetchSize;
+
+    /**
+     * 이 줄 수마다 응답 스트림을 flush (클라이언트가 진행 상황을 바로 받을 수 있도록)
+     */
+    private final int flushEvery;
+
+    /**
+     * 처리 통계
+     */
+    private final AtomicInteger runningExports = new AtomicInteger();
+    private final LongAdder exportedPosts = new LongAdder();
+    private final LongAdder interruptedExports = new LongAdder();
+
+    public PostExportService(ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${board.export.fetch-size:500}") int fetchSize,
+                             @Value("${board.export.flush-every:100}") int flushEvery) {
+        this.writer = objectMapper.writerFor(PostArchiveDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 게시글 내보내기
+     *
+     * @param after 이 ID 이후의 게시글부터 기록 (처음부터면 null)
+     * @param out   응답 스트림
+     * @return 기록한 게시글 수
+     * @throws IOException 클라이언트 연결이 끊긴 경우
+     */
+    public long export(Long after, OutputStream out) throws IOException {
+        runningExports.incrementAndGet();
+        try {
+            Long written = transactionTemplate.execute(status -> writeAll(after == null ? 0L : after, out));
+            out.flush();
+            return written == null ? 0 : written;
+        } catch (UncheckedIOException e) {
+            interruptedExports.increment();
+            log.info("게시글 내보내기 중단 (after={}): {}", after, e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            runningExports.decrementAndGet();
+        }
+    }
+
+    /**
+     * 커서를 읽으며 게시글 단위로 한 줄씩 기록 (읽기 전용 트랜잭션 안에서 호출)
+     */
+    private Long writeAll(long after, OutputStream out) {
+        long written = 0;
+        try (Stream<Object[]> rows = entityManager.createQuery(EXPORT_QUERY, Object[].class)
+                .setParameter("after", after)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+
+            PostArchiveDto current = null;
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                Long postId = (Long) row[0];
+                if (current == null || !current.getId().equals(postId)) {
+                    if (current != null) {
+                        writeLine(current, out, ++written);
+                    }
+                    current = PostArchiveDto.builder()
+                            .id(postId)
+                            .title((String) row[1])
+                            .content((String) row[2])
+                            .email((String) row[3])
+                            .nickname((String) row[4])
+                            .createAt((LocalDateTime) row[5])
+                            .viewCount((Long) row[6])
+                            .comments(new ArrayList<>())
+                            .build();
+                }
+                if (row[7] != null) {
+                    current.getComments().add(CommentArchiveDto.builder()
+                            .id((Long) row[7])
+                            .parentId((Long) row[8])
+                            .content((String) row[9])
+                            .writerEmail((String) row[10])
+                            .createdAt((LocalDateTime) row[11])
+                            .deleted(Boolean.TRUE.equals(row[12]))
+                            .build());
+                }
+            }
+            if (current != null) {
+                writeLine(current, out, ++written);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+
+    private void writeLine(PostArchiveDto post, OutputStream out, long written) throws IOException {
+        out.write(writer.writeValueAsBytes(post));
+        out.write('\n');
+        exportedPosts.increment();
+        if (written % flushEvery == 0) {
+            out.flush();
+        }
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 진행 중인 내보내기 수, 누적 기록 게시글 수, 중단된 내보내기 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runningExports", runningExports.get());
+        result.put("exportedPosts", exportedPosts.sum());
+        result.put("interruptedExports", interruptedExports.sum());
+        return result;
+    }
+}
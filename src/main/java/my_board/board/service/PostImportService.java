@@ -0,0 +1,411 @@
+package my_board.board.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.dto.CommentArchiveDto;
+import my_board.board.dto.ImportResultDto;
+import my_board.board.dto.PostArchiveDto;
+import my_board.board.entity.Comment;
+import my_board.board.entity.Post;
+import my_board.board.entity.User;
+import my_board.board.repository.UserRepository;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글/댓글 대량 가져오기 서비스 (이전 시스템 데이터 이관용)
+ *
+ * 처리 방식:
+ * - 본문을 Jackson 스트리밍 파서로 레코드(게시글 1건 + 댓글) 단위로 읽음 (본문 전체를 메모리에 올리지 않음)
+ *   NDJSON(한 줄에 하나) / JSON 배열 모두 지원
+ * - batch-size개 레코드마다 한 트랜잭션으로 저장하고 flush + clear로 영속성 컨텍스트를 비움
+ *   INSERT는 jdbc-batch-size개씩 JDBC 배치로 전송
+ * - 레코드 단위 오류(필수값 누락, 없는 작성자 등)는 건너뛰고 결과에 기록
+ *   저장 중 DB 오류로 배치가 실패하면 해당 배치를 레코드마다 다시 저장하여 실패한 레코드만 골라냄
+ * - JSON 문법 오류는 이후 위치를 알 수 없으므로 그 지점에서 중단 (이전 배치까지는 저장된 상태)
+ *
+ * 파일 크기와 관계없이 메모리 사용량은 배치 크기와 오류 목록 상한(max-errors)으로 제한됨
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private static final int MAX_COMMENT_LENGTH = 500;
+
+    /**
+     * 작성자 조회 시 IN 절 하나에 넣을 최대 이메일 수
+     */
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+
+    private final ObjectMapper objectMapper;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 한 트랜잭션에서 저장할 레코드 수 (flush + clear 단위)
+     */
+    private final int batchSize;
+
+    /**
+     * JDBC 배치 INSERT 크기
+     */
+    private final int jdbcBatchSize;
+
+    /**
+     * 결과에 포함할 최대 오류 수
+     */
+    private final int maxErrors;
+
+    /**
+     * 처리 통계
+     */
+    private final AtomicInteger runningImports = new AtomicInteger();
+    private final LongAdder processedRows = new LongAdder();
+    private final LongAdder importedPosts = new LongAdder();
+    private final LongAdder failedRows = new LongAdder();
+
+    public PostImportService(ObjectMapper objectMapper,
+                             UserRepository userRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${board.import.batch-size:500}") int batchSize,
+                             @Value("${board.import.jdbc-batch-size:100}") int jdbcBatchSize,
+                             @Value("${board.import.max-errors:100}") int maxErrors) {
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 게시글 가져오기
+     *
+     * @param body NDJSON 또는 JSON 배열 본문
+     * @return 처리 결과 (레코드 수, 저장 수, 실패 목록)
+     * @throws IOException 본문을 읽는 중 연결이 끊긴 경우 (이전 배치까지는 저장된 상태)
+     */
+    public ImportResultDto importPosts(InputStream body) throws IOException {
+        long started = System.currentTimeMillis();
+        Progress progress = new Progress();
+        runningImports.incrementAndGet();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = nextToken(parser, progress);
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = nextToken(parser, progress);
+            }
+
+            List<Row> batch = new ArrayList<>(batchSize);
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                long rowNumber = ++progress.totalRows;
+                processedRows.increment();
+
+                // 레코드 하나만 트리로 읽음 (문법 오류면 이후 위치를 알 수 없으므로 중단)
+                JsonNode node;
+                try {
+                    node = objectMapper.readTree(parser);
+                } catch (JsonProcessingException e) {
+                    progress.fail(rowNumber, "JSON 형식 오류로 중단: " + e.getOriginalMessage());
+                    progress.aborted = true;
+                    break;
+                }
+
+                String error;
+                PostArchiveDto record = null;
+                try {
+                    record = objectMapper.treeToValue(node, PostArchiveDto.class);
+                    error = validate(record);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    error = "필드 형식 오류: " + (e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage());
+                }
+
+                if (error != null) {
+                    progress.fail(rowNumber, error);
+                } else {
+                    batch.add(new Row(rowNumber, record));
+                    if (batch.size() >= batchSize) {
+                        writeBatch(batch, progress);
+                        batch.clear();
+                    }
+                }
+                token = nextToken(parser, progress);
+            }
+            // 중단된 경우에도 검증을 통과한 레코드는 저장
+            if (!batch.isEmpty()) {
+                writeBatch(batch, progress);
+            }
+        } finally {
+            runningImports.decrementAndGet();
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("게시글 가져오기 완료: 레코드 {}건, 게시글 {}건, 댓글 {}건, 실패 {}건, {}ms",
+                progress.totalRows, progress.importedPosts, progress.importedComments, progress.failedRows, elapsed);
+        return ImportResultDto.builder()
+                .totalRows(progress.totalRows)
+                .importedPosts(progress.importedPosts)
+                .importedComments(progress.importedComments)
+                .failedRows(progress.failedRows)
+                .errors(progress.errors)
+                .aborted(progress.aborted)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * 다음 레코드의 시작 토큰 읽기
+     * 레코드 사이의 문법 오류(줄 앞의 잘못된 문자, 짝이 맞지 않는 괄호 등)도 다음 레코드의 오류로 기록하고 중단
+     *
+     * @return 다음 토큰, 본문이 끝났거나 중단하면 null
+     * @throws IOException 본문을 읽는 중 연결이 끊긴 경우
+     */
+    private JsonToken nextToken(JsonParser parser, Progress progress) throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            long rowNumber = ++progress.totalRows;
+            processedRows.increment();
+            progress.fail(rowNumber, "JSON 형식 오류로 중단: " + e.getOriginalMessage());
+            progress.aborted = true;
+            return null;
+        }
+    }
+
+    /**
+     * 레코드 필수값 검증
+     *
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private String validate(PostArchiveDto record) {
+        if (record == null) {
+            return "빈 레코드입니다.";
+        }
+        if (!StringUtils.hasText(record.getTitle())) {
+            return "제목이 없습니다.";
+        }
+        if (!StringUtils.hasText(record.getEmail())) {
+            return "작성자 이메일이 없습니다.";
+        }
+        List<CommentArchiveDto> comments = record.getComments() == null ? List.of() : record.getComments();
+        Set<Long> seenIds = new HashSet<>();
+        for (int i = 0; i < comments.size(); i++) {
+            CommentArchiveDto comment = comments.get(i);
+            if (comment == null || !StringUtils.hasText(comment.getContent())) {
+                return "댓글[" + i + "] 내용이 없습니다.";
+            }
+            if (comment.getContent().length() > MAX_COMMENT_LENGTH) {
+                return "댓글[" + i + "] 내용은 " + MAX_COMMENT_LENGTH + "자 이하여야 합니다.";
+            }
+            if (!StringUtils.hasText(comment.getWriterEmail())) {
+                return "댓글[" + i + "] 작성자 이메일이 없습니다.";
+            }
+            if (comment.getParentId() != null && !seenIds.contains(comment.getParentId())) {
+                return "댓글[" + i + "] 부모 댓글(id=" + comment.getParentId() + ")이 앞에 없습니다.";
+            }
+            if (comment.getId() != null) {
+                seenIds.add(comment.getId());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 배치 저장
+     * 1. 댓글 작성자 이메일을 한 번에 조회하여 없는 작성자가 있는 레코드 제외
+     * 2. 한 트랜잭션으로 저장, 실패하면 레코드마다 다시 저장하여 실패한 레코드만 기록
+     */
+    private void writeBatch(List<Row> batch, Progress progress) {
+        Map<String, Long> userIds = findUserIds(batch);
+
+        List<Row> writable = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            String missing = row.post().getComments() == null ? null : row.post().getComments().stream()
+                    .map(CommentArchiveDto::getWriterEmail)
+                    .filter(email -> !userIds.containsKey(email))
+                    .findFirst()
+                    .orElse(null);
+            if (missing != null) {
+                progress.fail(row.number(), "댓글 작성자(" + missing + ")를 찾을 수 없습니다.");
+            } else {
+                writable.add(row);
+            }
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+
+        try {
+            progress.imported(transactionTemplate.execute(status -> persist(writable, userIds)), writable.size());
+        } catch (RuntimeException batchFailure) {
+            if (writable.size() == 1) {
+                progress.fail(writable.get(0).number(), "저장 실패: " + rootMessage(batchFailure));
+            } else {
+                // 실패한 레코드를 찾기 위해 한 건씩 다시 저장
+                for (Row row : writable) {
+                    try {
+                        progress.imported(transactionTemplate.execute(status -> persist(List.of(row), userIds)), 1);
+                    } catch (RuntimeException e) {
+                        progress.fail(row.number(), "저장 실패: " + rootMessage(e));
+                    }
+                }
+            }
+        }
+        log.info("게시글 가져오기 진행: 레코드 {}건, 게시글 {}건, 실패 {}건",
+                progress.totalRows, progress.importedPosts, progress.failedRows);
+    }
+
+    /**
+     * 레코드 저장 (트랜잭션 안에서 호출)
+     * 저장이 끝나면 flush + clear로 영속성 컨텍스트를 비워 배치마다 메모리 사용량이 일정하도록 함
+     *
+     * @return 저장한 댓글 수
+     */
+    private Long persist(List<Row> rows, Map<String, Long> userIds) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        long comments = 0;
+        for (Row row : rows) {
+            PostArchiveDto record = row.post();
+            List<CommentArchiveDto> commentRecords = record.getComments() == null ? List.of() : record.getComments();
+
+            Post post = Post.builder()
+                    .title(record.getTitle())
+                    .content(record.getContent())
+                    .email(record.getEmail())
+                    .nickname(record.getNickname())
+                    .createAt(record.getCreateAt())
+                    .viewCount(record.getViewCount())
+                    .commentCount(commentRecords.stream().filter(c -> !c.isDeleted()).count())
+                    .build();
+            entityManager.persist(post);
+
+            // 원본 댓글 ID -> 새로 저장한 댓글 (답글의 부모 연결용)
+            Map<Long, Comment> saved = new HashMap<>();
+            for (CommentArchiveDto c : commentRecords) {
+                Comment comment = Comment.builder()
+                        .post(post)
+                        .user(entityManager.getReference(User.class, userIds.get(c.getWriterEmail())))
+                        .parent(c.getParentId() != null ? saved.get(c.getParentId()) : null)
+                        .content(c.getContent())
+                        .createdAt(c.getCreatedAt() != null ? c.getCreatedAt() : LocalDateTime.now())
+                        .deleted(c.isDeleted())
+                        .build();
+                entityManager.persist(comment);
+                if (c.getId() != null) {
+                    saved.put(c.getId(), comment);
+                }
+                comments++;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return comments;
+    }
+
+    /**
+     * 배치에 포함된 댓글 작성자 이메일 -> 사용자 ID
+     */
+    private Map<String, Long> findUserIds(List<Row> batch) {
+        Set<String> emails = new HashSet<>();
+        for (Row row : batch) {
+            if (row.post().getComments() != null) {
+                row.post().getComments().forEach(c -> emails.add(c.getWriterEmail()));
+            }
+        }
+
+        Map<String, Long> userIds = new HashMap<>();
+        List<String> pending = new ArrayList<>(emails);
+        for (int from = 0; from < pending.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = pending.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, pending.size()));
+            for (Object[] row : userRepository.findIdsByEmails(chunk)) {
+                userIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+        return userIds;
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 진행 중인 가져오기 수, 누적 처리 레코드 수, 저장한 게시글 수, 실패 레코드 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runningImports", runningImports.get());
+        result.put("processedRows", processedRows.sum());
+        result.put("importedPosts", importedPosts.sum());
+        result.put("failedRows", failedRows.sum());
+        return result;
+    }
+
+    /**
+     * 검증을 통과한 레코드
+     *
+     * @param number 레코드 번호 (1부터)
+     * @param post   레코드 내용
+     */
+    private record Row(long number, PostArchiveDto post) {
+    }
+
+    /**
+     * 가져오기 한 번의 진행 상황
+     */
+    private class Progress {
+        long totalRows;
+        long importedPosts;
+        long importedComments;
+        long failedRows;
+        boolean aborted;
+        final List<ImportResultDto.RowError> errors = new ArrayList<>();
+
+        void imported(Long comments, int posts) {
+            importedPosts += posts;
+            importedComments += comments;
+            PostImportService.this.importedPosts.add(posts);
+        }
+
+        void fail(long row, String message) {
+            failedRows++;
+            PostImportService.this.failedRows.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportResultDto.RowError(row, message));
+            }
+        }
+    }
+}
@@ -1,24 +1,69 @@
 package my_board.board.service;
 
 import lombok.RequiredArgsConstructor;
+import my_board.board.cache.PostDetailCache;
+import my_board.board.config.ReplicaRouter;
+import my_board.board.dto.CursorPageDto;
+import my_board.board.dto.PostDetailDto;
 import my_board.board.dto.PostDto;
+import my_board.board.dto.PostSummaryDto;
 import my_board.board.dto.PostUpdateDto;
 import my_board.board.entity.Post;
+import my_board.board.repository.CommentRepository;
 import my_board.board.repository.PostRepository;
+import my_board.board.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스
  * - 게시글 작성
+ * - 게시글 상세 조회 (캐시 사용, 조회수 증가)
  * - 게시글 수정
+ * - 게시글 삭제 (댓글 포함, 집합 단위 DELETE)
+ * - 게시글 목록 조회 (커서 기반 페이지네이션)
+ * - 게시글 요약 목록 조회 (본문 제외)
  */
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    /**
+     * 목록 한 페이지의 기본 / 최대 크기
+     */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
 
+    /**
+     * 게시글 삭제 시 댓글 삭제용
+     */
+    private final CommentRepository commentRepository;
+
+    /**
+     * 게시글 상세 조회 캐시
+     */
+    private final PostDetailCache postDetailCache;
+
+    /**
+     * 조회수 집계기 (메모리에 모아 주기적으로 반영)
+     */
+    private final PostViewCounter postViewCounter;
+
+    /**
+     * 게시글 삭제 시 DELETE 한 번에 지울 최대 댓글 수 (1 미만이면 1로 처리)
+     */
+    @Value("${board.post-delete.comment-batch-size:1000}")
+    private int commentDeleteBatchSize;
+
     /**
      * 게시글 작성
      * 
@@ -37,6 +82,39 @@ public class PostService {
         postRepository.save(post);
     }
 
+    /**
+     * 게시글 상세 조회
+     * 캐시에 있으면 DB를 거치지 않고 반환하며, 없으면 DB에서 조회 후 캐시에 저장
+     * 캐시는 모든 사용자가 공유하므로 복제본 라우팅을 사용해도 주 DB에서 읽은 값으로만 채움
+     * (수정 직후 복제 지연된 이전 내용이 TTL 동안 캐시되는 것 방지)
+     *
+     * @param id 조회할 게시글 ID
+     * @return 게시글 상세, 존재하지 않으면 null
+     */
+    @Transactional(readOnly = true)
+    public PostDetailDto getPost(Long id) {
+        return postDetailCache.get(id, key -> ReplicaRouter.primaryOnly(() -> postRepository.findById(key)
+                .map(PostDetailDto::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 게시글 상세 조회 + 조회수 증가
+     * 조회수는 메모리 카운터만 증가시키며, 응답에는 아직 반영되지 않은 조회수를 더해서 보여줌
+     *
+     * @param id 조회할 게시글 ID
+     * @return 게시글 상세, 존재하지 않으면 null
+     */
+    @Transactional(readOnly = true)
+    public PostDetailDto viewPost(Long id) {
+        PostDetailDto post = getPost(id);
+        if (post == null) {
+            return null;
+        }
+        postViewCounter.increment(id);
+        return post.withViewCount(post.getViewCount() + postViewCounter.pending(id));
+    }
+
     /**
      * 게시글 수정
      * @param id  수정할 게시글 ID
@@ -51,8 +129,134 @@ public class PostService {
         // 필드 변경 (변경 감지 대상)
         post.setTitle(dto.getTitle());
         post.setContent(dto.getContent());
+
+        // 수정 전 내용이 캐시에서 조회되지 않도록 제거 (커밋 이후에도 한 번 더 제거됨)
+        postDetailCache.invalidate(id);
         
         // save() 호출 불필요: JPA 영속성 컨텍스트가 트랜잭션 커밋 시 자동으로 UPDATE 쿼리 실행
     }
-}
 
+    /**
+     * 게시글 삭제 (댓글 포함)
+     * 엔티티 단위 삭제(deleteById)는 댓글 컬렉션을 모두 읽고 댓글마다 DELETE를 실행하므로
+     * 댓글 수와 관계없이 몇 개의 집합 단위 쿼리로 한 트랜잭션에서 삭제
+     *
+     * 처리 과정:
+     * 1. 게시글 조회 + 행 잠금 (존재 여부 확인, 삭제 중 댓글 추가 방지)
+     * 2. 댓글을 ID 역순으로 commentDeleteBatchSize개씩 삭제
+     *    (묶음마다 경계 ID 조회 + 묶음 안 답글의 부모 참조 제거 UPDATE + DELETE)
+     * 3. 게시글 삭제 (DELETE 한 번)
+     * 4. 캐시 제거 (커밋 이후에도 한 번 더 제거됨)
+     *
+     * 답글은 항상 부모보다 나중에 저장되어 ID가 더 크므로, 큰 ID부터 지우면 남은 댓글이 지운 댓글을 참조하지 않음
+     * 따라서 부모 참조 제거도 지울 묶음에만 하면 되고, UPDATE/DELETE가 잠그는 행은 묶음 크기로 제한됨
+     *
+     * 쿼리 수는 2 + 3 x 묶음 수 (댓글이 묶음 크기 미만이면 항상 5회)
+     *
+     * @param id 삭제할 게시글 ID
+     * @return 삭제 여부 (false면 게시글 없음)
+     */
+    @Transactional
+    public boolean delete(Long id) {
+        // 1. 존재 여부 확인 + 잠금
+        if (postRepository.findByIdForUpdate(id).isEmpty()) {
+            return false;
+        }
+
+        // 2. 댓글 삭제 (큰 ID부터 묶음의 마지막 ID까지 삭제, 남은 댓글이 묶음 크기 이하면 전부 삭제)
+        int batchSize = Math.max(1, commentDeleteBatchSize);
+        while (true) {
+            List<Long> boundary = commentRepository.findIdsByPostIdDesc(id, PageRequest.of(batchSize - 1, 1));
+            long minId = boundary.isEmpty() ? Long.MIN_VALUE : boundary.get(0);
+            // 같은 묶음 안의 답글 -> 부모 참조 제거 (FK 위반 방지)
+            commentRepository.detachRepliesByPostIdFrom(id, minId);
+            commentRepository.deleteByPostIdFrom(id, minId);
+            if (boundary.isEmpty()) {
+                break;
+            }
+        }
+
+        // 3. 게시글 삭제
+        postRepository.deleteInBulkById(id);
+
+        // 4. 삭제된 게시글이 캐시에서 조회되지 않도록 제거
+        postDetailCache.invalidate(id);
+        return true;
+    }
+
+    /**
+     * 게시글 목록 조회 (키셋 페이지네이션, 최신순)
+     * 처리 과정:
+     * 1. 커서 해석 (없으면 첫 페이지)
+     * 2. 요청 크기보다 1건 더 조회하여 다음 페이지 존재 여부 판단
+     * 3. 마지막 게시글의 (createAt, id)로 다음 커서 생성
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ 100, 기본 20)
+     * @return 게시글 페이지와 다음 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<Post> getPostPage(String cursor, Integer size) {
+        return keysetPage(cursor, size,
+                postRepository::findFirstPage,
+                (keyset, limit) -> postRepository.findPageAfter(keyset.getCreatedAt(), keyset.getId(), limit),
+                post -> new KeysetCursor(post.getCreateAt(), post.getId()));
+    }
+
+    /**
+     * 게시글 요약 목록 조회 (키셋 페이지네이션, 최신순)
+     * 목록 화면 전용: id, 제목, 닉네임, 작성 시간, 댓글 수만 조회하며 본문은 읽지 않음
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ 100, 기본 20)
+     * @return 게시글 요약 페이지와 다음 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PostSummaryDto> getPostSummaryPage(String cursor, Integer size) {
+        return keysetPage(cursor, size,
+                postRepository::findSummaryFirstPage,
+                (keyset, limit) -> postRepository.findSummaryPageAfter(keyset.getCreatedAt(), keyset.getId(), limit),
+                summary -> new KeysetCursor(summary.getCreateAt(), summary.getId()));
+    }
+
+    /**
+     * 키셋 페이지 조회 공통 처리
+     * 다음 페이지 확인용으로 1건 더 조회하고, 마지막 항목의 (작성 시간, id)로 다음 커서 생성
+     *
+     * @param firstPage 첫 페이지 조회
+     * @param pageAfter 커서 이후 페이지 조회
+     * @param keyOf     항목에서 커서 키 추출
+     */
+    private <T> CursorPageDto<T> keysetPage(String cursor, Integer size,
+                                            Function<Pageable, List<T>> firstPage,
+                                            BiFunction<KeysetCursor, Pageable, List<T>> pageAfter,
+                                            Function<T, KeysetCursor> keyOf) {
+        int pageSize = normalizePageSize(size);
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<T> rows = keyset == null ? firstPage.apply(limit) : pageAfter.apply(keyset, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? keyOf.apply(items.get(items.size() - 1)).encode() : null;
+
+        return CursorPageDto.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 페이지 크기를 허용 범위로 보정
+     */
+    private int normalizePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,158 @@
+package my_board.board.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import my_board.board.cache.PostDetailCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계기
+ * 조회할 때마다 UPDATE를 실행하면 인기 게시글 한 행에 잠금이 몰리므로
+ * 메모리(게시글별 LongAdder)에 모았다가 주기적으로 한 번의 배치 UPDATE로 반영
+ *
+ * - 조회: LongAdder 증가만 수행 (DB 접근 없음, 여러 스레드가 같은 게시글을 조회해도 경합이 분산됨)
+ * - 반영: flush-interval-millis마다 "view_count = view_count + ?" 배치 UPDATE 1회
+ *   LongAdder.sumThenReset()은 셀 단위로 원자적으로 값을 가져오므로 반영 중 들어온 조회는 다음 반영에 포함됨
+ * - 반영에 실패하면 값을 되돌려 다음 반영에서 다시 시도
+ * - 애플리케이션 정상 종료 시 남은 값을 반영
+ *
+ * 유실 범위:
+ * - 프로세스가 비정상 종료(kill -9, 장애)되면 마지막 반영 이후의 조회수(최대 flush-interval-millis 동안의 조회)가 유실됨
+ * - 한 주기 동안 조회가 없던 게시글의 카운터를 정리하는 순간과 정확히 겹친 조회는 드물게 누락될 수 있음
+ * 조회수는 근사값으로 취급하며, 이 범위의 유실은 허용함
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "update post set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PostDetailCache postDetailCache;
+
+    /**
+     * 게시글 ID -> 아직 DB에 반영하지 않은 조회수
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 처리 통계
+     */
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder failedFlushCount = new LongAdder();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PostDetailCache postDetailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postDetailCache = postDetailCache;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 반영)
+     *
+     * @param postId 게시글 ID
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 조회수
+     *
+     * @param postId 게시글 ID
+     */
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 모인 조회수를 DB에 반영 (기본 5초 간격)
+     *
+     * @return 반영한 게시글 수
+     */
+    @Scheduled(
+            initialDelayString = "${board.view-count.flush-interval-millis:5000}",
+            fixedDelayString = "${board.view-count.flush-interval-millis:5000}"
+    )
+    public int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 한 주기 동안 조회가 없던 게시글은 카운터 정리 (정리 직후 들어온 값은 되돌림)
+                LongAdder removed = entry.getValue();
+                if (pending.remove(entry.getKey(), removed)) {
+                    long late = removed.sumThenReset();
+                    if (late > 0) {
+                        restore(entry.getKey(), late);
+                    }
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // 다음 반영에서 다시 시도
+            failedFlushCount.increment();
+            for (Object[] row : batch) {
+                restore((Long) row[1], (Long) row[0]);
+            }
+            log.warn("조회수 반영 실패 ({}건), 다음 주기에 다시 시도", batch.size(), e);
+            return 0;
+        }
+
+        flushCount.increment();
+        for (Object[] row : batch) {
+            flushedViews.add((Long) row[0]);
+            // 캐시된 상세는 유지하고 조회수만 DB 값에 맞춤 (반영 직후 캐시에 처음 저장된 상세는 드물게 중복 가산될 수 있음)
+            postDetailCache.addViewCount((Long) row[1], (Long) row[0]);
+        }
+        return batch.size();
+    }
+
+    private void restore(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("종료 전 조회수 반영: 게시글 {}건", flushed);
+        }
+    }
+
+    /**
+     * 처리 통계 조회
+     *
+     * @return 반영 대기 게시글 수, 반영 횟수, 반영한 조회수, 실패 횟수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pendingPosts", pending.size());
+        result.put("flushCount", flushCount.sum());
+        result.put("flushedViews", flushedViews.sum());
+        result.put("failedFlushCount", failedFlushCount.sum());
+        return result;
+    }
+}
@@ -0,0 +1,226 @@
+package my_board.board.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import my_board.board.util.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스마트택배 API 호출 클라이언트
+ * 외부 API 장애가 애플리케이션 전체로 번지지 않도록 호출을 격리
+ *
+ * - 벌크헤드(Bulkhead): 동시 호출 수를 제한하여 외부 API가 느려져도 요청 스레드 전체가 묶이지 않음
+ * - 서킷 브레이커: 최근 실패율이 높으면 일정 시간 호출 없이 즉시 실패
+ * - 연결/응답 타임아웃은 RestTemplateConfig의 연결 풀 설정에서 적용
+ * - 메트릭: upstream.requests (응답 시간 히스토그램), upstream.circuit.state, upstream.bulkhead.available 등
+ */
+@Component
+public class SweetTrackerClient implements MeterBinder {
+
+    private final RestTemplate restTemplate;
+
+    /**
+     * 스마트택배 API 키
+     * Git에 올릴때 노출되지않게 application.properties에서 주입
+     */
+    private final String apiKey;
+
+    /**
+     * 스마트택배 API 주소 (테스트 시 로컬 스텁 서버로 교체)
+     */
+    private final String baseUrl;
+
+    private final Semaphore bulkhead;
+
+    /**
+     * 벌크헤드 자리를 기다리는 최대 시간 (밀리초)
+     */
+    private final long bulkheadWaitMillis;
+
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * 외부 API 호출 통계
+     */
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder bulkheadRejectedCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * 외부 API 응답 시간 히스토그램 (메트릭 등록 전에는 null)
+     */
+    private volatile Timer upstreamTimer;
+
+    public SweetTrackerClient(
+            RestTemplate restTemplate,
+            @Value("${smarttracker.key}") String apiKey,
+            @Value("${smarttracker.base-url:https://info.sweettracker.co.kr}") String baseUrl,
+            @Value("${smarttracker.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${smarttracker.bulkhead.max-wait-millis:100}") long bulkheadWaitMillis,
+            @Value("${smarttracker.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${smarttracker.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${smarttracker.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${smarttracker.circuit-breaker.open-duration-millis:10000}") long openDurationMillis
+    ) {
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMillis);
+    }
+
+    /**
+     * 택배 배송 조회 API 호출
+     *
+     * @param carrierCode   택배사 코드
+     * @param invoiceNumber 송장번호
+     * @return 스마트택배 응답 JSON (디코딩하지 않은 UTF-8 바이트)
+     * @throws UpstreamUnavailableException 차단/동시 호출 초과/타임아웃/5xx 응답
+     */
+    public byte[] track(String carrierCode, String invoiceNumber) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new UpstreamUnavailableException("택배 조회 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            // 외부 API 상태와 무관한 거절이므로 서킷 브레이커에는 결과 없이 반납
+            circuitBreaker.releasePermission();
+            bulkheadRejectedCount.increment();
+            throw new UpstreamUnavailableException("택배 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            byte[] body = call(carrierCode, invoiceNumber);
+            circuitBreaker.onSuccess();
+            return body;
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            // 연결 실패, 타임아웃, 5xx 응답은 외부 API 장애로 기록
+            circuitBreaker.onFailure();
+            errorCount.increment();
+            throw new UpstreamUnavailableException("택배 조회 서비스 호출에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            // 4xx 등 요청 자체의 문제는 외부 API 장애로 보지 않음
+            circuitBreaker.onSuccess();
+            errorCount.increment();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 실제 HTTP 호출 (호출 시간 기록)
+     * 응답 본문은 문자열로 디코딩하지 않고 바이트 그대로 읽음
+     */
+    private byte[] call(String carrierCode, String invoiceNumber) {
+        // API URL 생성 (쿼리 파라미터 포함)
+        String url = String.format(
+                "%s/api/v1/trackingInfo?t_key=%s&t_code=%s&t_invoice=%s",
+                baseUrl,
+                apiKey,
+                carrierCode.trim(),      // 앞뒤 공백 제거
+                invoiceNumber.trim()     // 앞뒤 공백 제거
+        );
+
+        // HTTP 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept", "application/json;charset=UTF-8");
+
+        // HTTP 요청 엔티티 생성 (헤더만 포함, 본문 없음)
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        // POST 요청 전송 및 응답 수신
+        long start = System.nanoTime();
+        try {
+            ResponseEntity<byte[]> response = restTemplate.postForEntity(url, request, byte[].class);
+            return response.getBody();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer timer = upstreamTimer;
+            if (timer != null) {
+                timer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            callCount.increment();
+            totalNanos.add(elapsed);
+            maxNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    /**
+     * 메트릭 등록
+     * - upstream.requests: 외부 API 응답 시간 (p50/p95/p99 히스토그램)
+     * - upstream.errors, upstream.bulkhead.rejected: 실패/동시 호출 제한 거절 건수
+     * - upstream.bulkhead.available: 남은 동시 호출 자리
+     * - upstream.circuit.state: 서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        upstreamTimer = Timer.builder("upstream.requests")
+                .description("스마트택배 API 응답 시간")
+                .tag("upstream", "sweettracker")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        FunctionCounter.builder("upstream.errors", errorCount, LongAdder::sum)
+                .tag("upstream", "sweettracker")
+                .register(registry);
+        FunctionCounter.builder("upstream.bulkhead.rejected", bulkheadRejectedCount, LongAdder::sum)
+                .tag("upstream", "sweettracker")
+                .register(registry);
+        Gauge.builder("upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .tag("upstream", "sweettracker")
+                .register(registry);
+        Gauge.builder("upstream.circuit.state", circuitBreaker, cb -> switch (cb.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .tag("upstream", "sweettracker")
+                .register(registry);
+    }
+
+    /**
+     * 외부 API 호출 통계
+     *
+     * @return 호출 수, 오류 수, 평균/최대 응답 시간, 벌크헤드 거절 수, 서킷 브레이커 상태
+     */
+    public Map<String, Object> stats() {
+        long calls = callCount.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("callCount", calls);
+        result.put("errorCount", errorCount.sum());
+        result.put("averageMillis", calls == 0 ? 0.0 : totalNanos.sum() / (double) calls / 1_000_000.0);
+        result.put("maxMillis", maxNanos.get() / 1_000_000.0);
+        result.put("bulkheadAvailable", bulkhead.availablePermits());
+        result.put("bulkheadRejectedCount", bulkheadRejectedCount.sum());
+        result.put("circuitBreaker", circuitBreaker.stats());
+        return result;
+    }
+}
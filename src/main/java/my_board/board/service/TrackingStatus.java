@@ -0,0 +1,147 @@
+package my_board.board.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 스마트택배 조회 응답에서 배송 상태만 추출한 값
+ *
+ * 응답 주요 필드:
+ * - complete: 배송 완료 여부
+ * - level: 배송 단계 (1: 배송준비중 ~ 5: 배송출발, 6: 배송완료)
+ * - status / msg: 조회 실패 시 false와 오류 메시지
+ * - trackingDetails: 배송 이력 (마지막 항목의 kind/where가 현재 위치)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TrackingStatus {
+
+    /**
+     * 배송 완료 단계
+     */
+    private static final int LEVEL_DELIVERED = 6;
+
+    /**
+     * 배송 단계 (알 수 없으면 0)
+     */
+    private final int level;
+
+    /**
+     * 배송 완료 여부
+     */
+    private final boolean complete;
+
+    /**
+     * 조회 실패 응답 여부 (잘못된 송장번호 등)
+     */
+    private final boolean error;
+
+    /**
+     * 마지막 배송 이력의 처리 내용 (예: "간선상차", "배달출발"), 없으면 null
+     */
+    private final String lastKind;
+
+    /**
+     * 마지막 배송 이력의 처리 위치, 없으면 null
+     */
+    private final String lastWhere;
+
+    public TrackingStatus(int level, boolean complete, boolean error) {
+        this(level, complete, error, null, null);
+    }
+
+    /**
+     * 이전 상태와 비교하여 배송 상태가 바뀌었는지 여부 (배송 단계, 완료 여부, 마지막 처리 내용/위치)
+     */
+    public boolean isChangedFrom(Integer previousLevel, String previousKind, String previousWhere) {
+        return previousLevel == null
+                || previousLevel != level
+                || !Objects.equals(previousKind, lastKind)
+                || !Objects.equals(previousWhere, lastWhere);
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 최종 상태인지 여부 (배송 완료)
+     */
+    public boolean isFinal() {
+        return complete || level >= LEVEL_DELIVERED;
+    }
+
+    /**
+     * 응답 본문에서 배송 상태 추출
+     * 최상위 필드(level, complete, status)만 스트리밍으로 읽고 배송 이력 등 중첩 값은 건너뜀 (트리/문자열 생성 없음)
+     *
+     * @param objectMapper JSON 파서
+     * @param body         스마트택배 응답 JSON (UTF-8 바이트)
+     * @return 배송 상태 (JSON이 아니면 오류 상태)
+     */
+    public static TrackingStatus parse(ObjectMapper objectMapper, byte[] body) {
+        if (body == null || body.length == 0) {
+            return new TrackingStatus(0, false, true);
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new TrackingStatus(0, false, true);
+            }
+            int level = 0;
+            boolean complete = false;
+            boolean error = false;
+            String[] last = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "level" -> level = parser.getValueAsInt(0);
+                    case "complete" -> complete = parser.getValueAsBoolean(false);
+                    case "status" -> error = !parser.getValueAsBoolean(true);
+                    case "trackingDetails" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            // 배열을 끝까지 읽고 마지막 이력만 남김
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                last = readKindAndWhere(parser);
+                            }
+                        } else if (value == JsonToken.START_OBJECT) {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> {
+                        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+            return last == null
+                    ? new TrackingStatus(level, complete, error)
+                    : new TrackingStatus(level, complete, error, last[0], last[1]);
+        } catch (IOException e) {
+            return new TrackingStatus(0, false, true);
+        }
+    }
+
+    /**
+     * 배송 이력 객체 하나에서 kind, where만 읽음 (파서는 객체 시작 위치)
+     */
+    private static String[] readKindAndWhere(JsonParser parser) throws IOException {
+        String kind = null;
+        String where = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("kind".equals(field)) {
+                kind = parser.getValueAsString();
+            } else if ("where".equals(field)) {
+                where = parser.getValueAsString();
+            } else if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            }
+        }
+        return new String[]{kind, where};
+    }
+}
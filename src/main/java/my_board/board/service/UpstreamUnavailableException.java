@@ -0,0 +1,19 @@
+package my_board.board.service;
+
+/**
+ * 외부 API(스마트택배)를 사용할 수 없을 때 발생하는 예외
+ * - 서킷 브레이커가 열려 있음 (최근 실패율 초과)
+ * - 동시 호출 수 제한(벌크헤드) 초과
+ * - 연결/응답 시간 초과, 5xx 응답
+ * 컨트롤러에서 503 Service Unavailable로 응답
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
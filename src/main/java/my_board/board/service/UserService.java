@@ -5,7 +5,6 @@ import my_board.board.dto.UserRegisterDto;
 import my_board.board.entity.User;
 import my_board.board.repository.UserRepository;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,9 +25,14 @@ public class UserService {
     private final UserRepository userRepository;
     
     /**
-     * 비밀번호 암호화/검증을 위한 Encoder
+     * 비밀번호 암호화/검증 (BCrypt, 요청 스레드가 아닌 전용 스레드 풀에서 실행)
      */
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * 닉네임 중복 확인용 블룸 필터 (가입한 닉네임 추가)
+     */
+    private final NicknameAvailabilityService nicknameAvailabilityService;
 
     /**
      * 사용자 회원가입 처리
@@ -38,9 +42,11 @@ public class UserService {
      * 2. 비밀번호 암호화
      * 3. 기본 권한(ROLE_USER) 설정
      * 4. 데이터베이스에 저장
+     * 5. 닉네임 중복 확인 필터에 닉네임 추가
      * 
      * @param dto 회원가입 정보 (이메일, 비밀번호, 닉네임)
      * @throws RuntimeException 이미 가입된 이메일인 경우
+     * @throws PasswordHashingBusyException 비밀번호 해시 대기열이 가득 찬 경우
      */
     public void register(UserRegisterDto dto) {
         // 이메일 중복 체크
@@ -51,13 +57,16 @@ public class UserService {
         // 사용자 엔티티 생성
         User user = User.builder()
                 .email(dto.getEmail())
-                .password(passwordEncoder.encode(dto.getPassword()))  // BCrypt로 비밀번호 암호화
+                .password(passwordHashingService.encode(dto.getPassword()))  // BCrypt로 비밀번호 암호화
                 .nickname(dto.getNickname())
                 .role("ROLE_USER")  // 기본 권한 설정
                 .build();
 
         // 데이터베이스에 저장
         userRepository.save(user);
+
+        // 닉네임 중복 확인 필터에 추가
+        nicknameAvailabilityService.register(user.getNickname());
     }
 
     /**
@@ -69,6 +78,7 @@ public class UserService {
      * @return 인증된 User 객체
      * @throws UsernameNotFoundException 이메일이 존재하지 않는 경우
      * @throws IllegalArgumentException  비밀번호가 일치하지 않는 경우
+     * @throws PasswordHashingBusyException 비밀번호 해시 대기열이 가득 찬 경우
      */
     public User authenticate(String email, String password) {
         // 이메일로 사용자 조회
@@ -76,7 +86,7 @@ public class UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("이메일이 존재하지 않습니다."));
         
         // 비밀번호 검증 (입력된 평문과 저장된 암호화된 비밀번호 비교)
-        if(!passwordEncoder.matches(password, user.getPassword())) {
+        if(!passwordHashingService.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
         
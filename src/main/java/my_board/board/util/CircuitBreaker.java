@@ -0,0 +1,203 @@
+package my_board.board.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서킷 브레이커 (Circuit Breaker)
+ * 외부 API가 연속으로 실패하면 일정 시간 호출을 차단하여 요청 스레드가 느린 응답에 묶이지 않도록 함
+ *
+ * 상태:
+ * - CLOSED: 정상. 최근 windowSize건의 실패율이 기준을 넘으면 OPEN
+ * - OPEN: 차단. openDuration 동안 모든 호출을 즉시 거절
+ * - HALF_OPEN: 시험 호출 1건만 허용하여 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 상태 변경은 ReentrantLock으로 보호 (synchronized를 쓰지 않아 가상 스레드 고정(pinning)이 생기지 않음)
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 최근 호출 결과 링 버퍼 (true: 실패)
+     */
+    private final boolean[] outcomes;
+    private int nextIndex = 0;
+    private int recordedCount = 0;
+    private int failureCount = 0;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean trialInFlight = false;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param windowSize           실패율을 계산할 최근 호출 수
+     * @param minimumCalls         실패율 판단에 필요한 최소 호출 수
+     * @param failureRateThreshold 차단 기준 실패율 (0 ~ 1)
+     * @param openDurationMillis   차단 유지 시간 (밀리초)
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.minimumCalls = Math.max(Math.min(minimumCalls, this.windowSize), 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.outcomes = new boolean[this.windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     * true를 받은 호출자는 반드시 onSuccess(), onFailure(), releasePermission() 중 하나를 호출해야 함
+     *
+     * @return 호출 가능하면 true
+     */
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                        // 차단 시간이 지나면 시험 호출 1건 허용
+                        state = State.HALF_OPEN;
+                        trialInFlight = true;
+                        return true;
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (!trialInFlight) {
+                        trialInFlight = true;
+                        return true;
+                    }
+                    break;
+            }
+            rejectedCount.increment();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 성공 기록
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                close();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않은 경우 반납 (결과를 기록하지 않음)
+     * HALF_OPEN 상태에서는 다음 시험 호출을 다시 허용
+     */
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                trialInFlight = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 실패 기록
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recordedCount >= minimumCalls
+                        && failureCount / (double) recordedCount >= failureRateThreshold) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 상태 통계
+     *
+     * @return 상태, 최근 실패율, 거절 건수
+     */
+    public Map<String, Object> stats() {
+        lock.lock();
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("state", state.name());
+            result.put("failureRate", recordedCount == 0 ? 0.0 : failureCount / (double) recordedCount);
+            result.put("recordedCalls", recordedCount);
+            result.put("rejectedCount", rejectedCount.sum());
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recordedCount == windowSize) {
+            // 가장 오래된 결과를 밀어냄
+            if (outcomes[nextIndex]) {
+                failureCount--;
+            }
+        } else {
+            recordedCount++;
+        }
+        outcomes[nextIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        nextIndex = (nextIndex + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        trialInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        nextIndex = 0;
+        recordedCount = 0;
+        failureCount = 0;
+        Arrays.fill(outcomes, false);
+    }
+}
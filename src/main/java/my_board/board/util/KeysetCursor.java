@@ -0,0 +1,70 @@
+package my_board.board.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(Keyset) 페이지네이션 커서
+ * 마지막으로 내려준 행의 (작성 시간, ID)를 담아 다음 페이지의 시작 위치로 사용
+ *
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 내부 구조는 노출하지 않음 (opaque cursor)
+ * - OFFSET 방식과 달리 인덱스를 (createAt, id) 위치부터 바로 탐색하므로 몇 번째 페이지든 비용이 일정
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 마지막 행의 작성 시간
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막 행의 ID (작성 시간이 같은 행들 사이의 순서 보장용)
+     */
+    private final Long id;
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환
+     *
+     * @return URL-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석
+     *
+     * @param cursor encode()로 만든 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package my_board.board.util;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 SnowflakeIdGenerator로 생성 (@GeneratedValue 대신 사용)
+ * INSERT 전에 애플리케이션에서 ID를 정하므로 Hibernate가 JDBC 배치 INSERT를 사용할 수 있음
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
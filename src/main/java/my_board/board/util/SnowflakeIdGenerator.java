@@ -0,0 +1,117 @@
+package my_board.board.util;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 ID 생성기 (Snowflake 방식, 53비트)
+ * IDENTITY(AUTO_INCREMENT)는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 JDBC 배치를 끄므로
+ * 애플리케이션에서 ID를 미리 만들어 여러 INSERT를 한 번에 보낼 수 있도록 함
+ *
+ * 구성 (상위 비트부터):
+ * - 41비트: EPOCH 이후 경과 밀리초 (약 69년)
+ * -  4비트: 노드 번호 (0 ~ 15, 애플리케이션 인스턴스마다 다르게 설정)
+ * -  8비트: 같은 밀리초 안의 순번 (노드당 밀리초마다 256개)
+ *
+ * - JavaScript Number로도 정확히 표현되도록 전체를 53비트 이내로 제한 (프론트엔드에서 ID를 숫자로 다룸)
+ * - ID가 생성 시각 순서이므로 기존 (createAt, id) 키셋 페이지네이션 순서와 어긋나지 않음
+ *   기존 AUTO_INCREMENT 값보다 항상 크므로 전환 후에도 ID 순서가 유지됨
+ * - 한 밀리초에 256개를 넘기거나 시계가 뒤로 가면 다음 밀리초 값을 미리 사용 (대기하지 않고 순서/유일성 유지)
+ * - 노드 번호는 spring.jpa.properties.board.id.node-id로 설정
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    /**
+     * 기준 시각 (2024-01-01T00:00:00Z)
+     */
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 노드 번호 설정 키 (Hibernate 설정, spring.jpa.properties 하위)
+     */
+    public static final String NODE_ID_SETTING = "board.id.node-id";
+
+    private final long nodeId;
+
+    /**
+     * 마지막으로 사용한 (경과 밀리초 << SEQUENCE_BITS | 순번)
+     * 값을 비교-교환(CAS)으로 갱신하므로 잠금 없이 여러 스레드에서 호출 가능
+     */
+    private final AtomicLong lastTick = new AtomicLong();
+
+    /**
+     * Hibernate가 @SnowflakeId 필드마다 생성
+     */
+    public SnowflakeIdGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        this(resolveNodeId(context.getServiceRegistry().getService(ConfigurationService.class)
+                .getSettings().get(NODE_ID_SETTING)));
+    }
+
+    /**
+     * @param nodeId 노드 번호 (0 ~ 15)
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    private static int resolveNodeId(Object setting) {
+        return setting == null ? 0 : Integer.parseInt(setting.toString().trim());
+    }
+
+    /**
+     * 다음 ID 생성
+     *
+     * @return 이전에 생성한 ID보다 큰 53비트 ID
+     */
+    public long nextId() {
+        while (true) {
+            long previous = lastTick.get();
+            long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            // 같은 밀리초면 순번 + 1 (순번이 넘치면 자연스럽게 다음 밀리초로 올라감)
+            long next = Math.max(now, previous + 1);
+            if (lastTick.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * ID에서 생성 시각 추출
+     *
+     * @param id 이 생성기로 만든 ID
+     * @return 생성 시각 (밀리초 단위)
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,123 @@
+package my_board.board.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열용 블룸 필터 (Bloom Filter)
+ * 집합에 "확실히 없음" / "있을 수도 있음"을 적은 메모리로 판별하는 확률적 자료구조
+ *
+ * - mightContain()이 false면 확실히 추가된 적 없는 값 (거짓 음성 없음)
+ * - true면 설정한 오탐률(fpp) 확률로 실제로는 없는 값일 수 있음
+ * - 비트 배열을 AtomicLongArray로 관리하여 여러 스레드가 동시에 추가/조회 가능 (락 없음)
+ * - 삭제는 지원하지 않음
+ */
+public class StringBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 ~ 1, 예: 0.01)
+     */
+    public StringBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 수 k = m / n * ln 2
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min((m + 63) / 64, Integer.MAX_VALUE);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+        insertions.increment();
+    }
+
+    /**
+     * 값이 추가되었을 가능성이 있는지 확인
+     *
+     * @return false면 확실히 없음, true면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추가 호출 횟수 (중복 포함)
+     */
+    public long insertionCount() {
+        return insertions.sum();
+    }
+
+    /**
+     * 비트 배열 크기 (비트)
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    /**
+     * 해시 함수 수
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 이중 해싱(h1 + i * h2) 결과를 비트 인덱스로 변환
+     */
+    private long bitIndex(int combined) {
+        return (combined & 0x7fffffffL) % bitCount;
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a + MurmurHash3 fmix64 마무리 혼합)
+     */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,152 @@
+package my_board.board.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my_board.board.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 복제본 라우팅 전체 흐름 테스트 (ReadReplicaConfig, JPA 트랜잭션, open-in-view, 느린 쿼리 프록시, 인증 사용자 포함)
+ * 주 DB와 복제본 2개를 각각 별도의 인메모리 H2로 두며, 복제는 하지 않으므로 복제본에만 있는 행으로 읽은 DB를 구분
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing_it_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+		"board.datasource.routing.enabled=true",
+		"board.datasource.routing.replica-urls=" + ReadReplicaRoutingTest.REPLICA_0 + "," + ReadReplicaRoutingTest.REPLICA_1,
+		"board.datasource.routing.health-check-interval-millis=3600000"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+	static final String REPLICA_0 = "jdbc:h2:mem:routing_it_replica0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+	static final String REPLICA_1 = "jdbc:h2:mem:routing_it_replica1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setUpReplicas() {
+		for (String url : List.of(REPLICA_0, REPLICA_1)) {
+			JdbcTemplate replica = replica(url);
+			replica.execute("create table if not exists post (id bigint primary key, title varchar(255), content text, "
+					+ "email varchar(255), nickname varchar(255), create_at timestamp, "
+					+ "view_count bigint default 0 not null, comment_count bigint default 0 not null)");
+			replica.update("delete from post");
+			// 가장 최근 글로 보이도록 미래 시각으로 저장
+			replica.update("insert into post (id, title, content, email, nickname, create_at) values (?, ?, ?, ?, ?, ?)",
+					1L, "replica", "replica only", "replica@test.com", "replica", LocalDateTime.now().plusYears(1));
+		}
+	}
+
+	@Test
+	void readsGoToReplicaExceptForUserWhoJustWrote() throws Exception {
+		String writer = UUID.randomUUID() + "@test.com";
+		String reader = UUID.randomUUID() + "@test.com";
+		String title = "primary-" + UUID.randomUUID();
+
+		mockMvc.perform(as(get("/api/posts"), reader))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].title").value("replica"));
+
+		mockMvc.perform(as(post("/api/create-posts"), writer)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of(
+								"title", title, "content", "c", "email", writer, "nickname", "writer"))))
+				.andExpect(status().isOk());
+
+		// 방금 쓴 사용자는 주 DB에서 읽어 자신의 글을 봄
+		mockMvc.perform(as(get("/api/posts"), writer))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].title").value(title));
+
+		// 다른 사용자는 계속 복제본에서 읽음
+		mockMvc.perform(as(get("/api/posts/summaries"), reader))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].title").value("replica"));
+	}
+
+	@Test
+	void postDetailCacheIsNotFilledFromLaggingReplica() throws Exception {
+		String writer = UUID.randomUUID() + "@test.com";
+		String reader = UUID.randomUUID() + "@test.com";
+		String title = "before-" + UUID.randomUUID();
+
+		mockMvc.perform(as(post("/api/create-posts"), writer)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of(
+								"title", title, "content", "c", "email", writer, "nickname", "writer"))))
+				.andExpect(status().isOk());
+		Long id = jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+
+		// 복제본에는 수정 전 내용만 있음 (복제 지연)
+		for (String url : List.of(REPLICA_0, REPLICA_1)) {
+			replica(url).update("insert into post (id, title, content, email, nickname, create_at) values (?, ?, ?, ?, ?, ?)",
+					id, title, "c", writer, "writer", LocalDateTime.now());
+		}
+
+		mockMvc.perform(as(put("/api/posts/" + id), writer)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(Map.of("title", "after", "content", "c2"))))
+				.andExpect(status().isOk());
+
+		// 쓰기를 하지 않은 사용자가 먼저 조회해도 캐시는 주 DB 값으로 채워짐
+		mockMvc.perform(as(get("/api/posts/" + id), reader))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.title").value("after"));
+		mockMvc.perform(as(get("/api/posts/" + id), writer))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.title").value("after"));
+	}
+
+	@Test
+	void listReadsAlternateBetweenReplicas() throws Exception {
+		replica(REPLICA_1).update("update post set title = 'replica-1'");
+
+		String reader = UUID.randomUUID() + "@test.com";
+		assertThat(List.of(title(reader), title(reader))).containsExactlyInAnyOrder("replica", "replica-1");
+	}
+
+	private String title(String user) throws Exception {
+		String body = mockMvc.perform(as(get("/api/posts"), user))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body).path("items").path(0).path("title").asText();
+	}
+
+	private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, String email) {
+		return request.header("Authorization", "Bearer " + jwtTokenProvider.createToken(email, "ROLE_USER", "nick"));
+	}
+
+	private static JdbcTemplate replica(String url) {
+		return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+	}
+}
@@ -0,0 +1,152 @@
+package my_board.board.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB / 복제본을 각각 별도의 인메모리 H2로 두고 어느 DB에서 읽었는지 확인
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private final AtomicReference<String> currentUser = new AtomicReference<>();
+
+	private SwitchableDataSource replica1;
+
+	private ReplicaRouter router;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private TransactionTemplate readWrite;
+
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = database("primary");
+		replica1 = new SwitchableDataSource(database("replica1"));
+		DataSource replica2 = database("replica2");
+
+		router = new ReplicaRouter(primary, List.of(replica1, replica2),
+				new ReadYourWritesTracker(60_000, 100), currentUser::get);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(router));
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		for (String name : List.of("primary", "replica1", "replica2")) {
+			new JdbcTemplate(new DriverManagerDataSource(url(name), "sa", "")).execute("drop table node");
+		}
+	}
+
+	@Test
+	void readOnlyTransactionsAlternateBetweenReplicas() {
+		assertThat(List.of(read(), read(), read(), read()))
+				.containsExactly("replica1", "replica2", "replica1", "replica2");
+		assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+	}
+
+	@Test
+	void userReadsFromPrimaryAfterOwnWrite() {
+		currentUser.set("a@test.com");
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("update node set name = name"));
+
+		assertThat(read()).isEqualTo("primary");
+
+		currentUser.set("b@test.com");
+		assertThat(read()).startsWith("replica");
+		assertThat(router.stats()).containsEntry("stickyRoutes", 1L);
+	}
+
+	@Test
+	void rolledBackWriteDoesNotMakeUserSticky() {
+		currentUser.set("a@test.com");
+		readWrite.executeWithoutResult(status -> {
+			jdbcTemplate.update("update node set name = name");
+			status.setRollbackOnly();
+		});
+
+		assertThat(read()).startsWith("replica");
+	}
+
+	@Test
+	void unavailableReplicaIsSkippedUntilHealthy() {
+		replica1.down = true;
+
+		// 첫 연결 실패는 주 DB로 대체하고 이후에는 정상 복제본만 선택
+		assertThat(List.of(read(), read(), read())).containsExactly("primary", "replica2", "replica2");
+
+		replica1.down = false;
+		assertThat(read()).isEqualTo("replica2");
+
+		router.checkHealth();
+		assertThat(List.of(read(), read())).containsExactlyInAnyOrder("replica1", "replica2");
+
+		replica1.down = true;
+		router.checkHealth();
+		@SuppressWarnings("unchecked")
+		Map<String, Object> replicas = (Map<String, Object>) router.stats().get("replicas");
+		assertThat(replicas.get("replica-0")).isEqualTo(Map.of("healthy", false, "routes", 2L));
+	}
+
+	private String read() {
+		return readOnly.execute(status -> currentNode());
+	}
+
+	private String currentNode() {
+		return jdbcTemplate.queryForObject("select name from node", String.class);
+	}
+
+	private static DataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(url(name), "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table node (name varchar(20))");
+		jdbc.update("insert into node (name) values (?)", name);
+		return dataSource;
+	}
+
+	private static String url(String name) {
+		return "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1";
+	}
+
+	/**
+	 * 장애 상황을 흉내 내기 위해 커넥션 획득을 실패시킬 수 있는 DataSource
+	 */
+	private static class SwitchableDataSource extends DelegatingDataSource {
+
+		volatile boolean down;
+
+		SwitchableDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("replica down");
+			}
+			return super.getConnection();
+		}
+	}
+}
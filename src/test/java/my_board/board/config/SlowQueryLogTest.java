@@ -0,0 +1,44 @@
+package my_board.board.config;
+
+import my_board.board.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 느린 쿼리 로그 테스트
+ * 기준 시간을 0으로 두어 모든 SQL을 느린 쿼리로 기록하고, 로그에 호출한 Repository 메서드와 파라미터가 남는지 확인
+ */
+@SpringBootTest(properties = "board.slow-query.threshold-millis=0")
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLogTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SlowQueryListener slowQueryListener;
+
+	@Test
+	void logsSlowStatementWithRepositoryMethodAndParameters(CapturedOutput output) {
+		long before = (long) slowQueryListener.stats().get("slowCount");
+
+		userRepository.findByEmail("slow-query@test.com");
+
+		assertThat((long) slowQueryListener.stats().get("slowCount")).isGreaterThan(before);
+		// 로그는 비동기 appender로 출력되므로 잠시 기다림
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+				assertThat(output.getOut())
+						.contains("느린 쿼리")
+						.contains("[UserRepository.findByEmail]")
+						.contains("params=[slow-query@test.com]"));
+	}
+}
@@ -0,0 +1,54 @@
+package my_board.board.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 가상 스레드 고정 감시 테스트
+ * synchronized 블록 안에서 sleep하여 고정을 일으키고, 고정 위치가 JDK 파킹 프레임이 아니라
+ * 잠금을 잡은 애플리케이션 메서드로 집계되는지 확인
+ */
+class VirtualThreadPinningMonitorTest {
+
+	private static final Object LOCK = new Object();
+
+	private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(10);
+
+	@AfterEach
+	void stop() {
+		monitor.stop();
+	}
+
+	@Test
+	void reportsApplicationFrameAsPinnedSite() throws Exception {
+		monitor.start();
+
+		Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::holdLockAndSleep).join();
+
+		// JFR 이벤트는 스트림에 비동기로 전달되므로 잠시 기다림
+		await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+				assertThat((long) monitor.stats().get("pinnedCount")).isPositive());
+
+		@SuppressWarnings("unchecked")
+		Map<String, Object> sites = (Map<String, Object>) monitor.stats().get("sites");
+		assertThat(sites.keySet())
+				.anyMatch(site -> site.startsWith(VirtualThreadPinningMonitorTest.class.getName() + ".holdLockAndSleep:"))
+				.noneMatch(site -> site.startsWith("java."));
+	}
+
+	private static void holdLockAndSleep() {
+		synchronized (LOCK) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package my_board.board.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my_board.board.dto.CommentArchiveDto;
+import my_board.board.dto.PostArchiveDto;
+import my_board.board.entity.Comment;
+import my_board.board.entity.Post;
+import my_board.board.entity.User;
+import my_board.board.jwt.JwtTokenProvider;
+import my_board.board.repository.CommentRepository;
+import my_board.board.repository.PostRepository;
+import my_board.board.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Test
+	void streamsPostsWithCommentsAndResumesAfterCursor() throws Exception {
+		String tag = UUID.randomUUID().toString();
+		User writer = userRepository.save(User.builder()
+				.email(tag + "@test.com")
+				.password("password")
+				.nickname("exporter-" + tag.substring(0, 8))
+				.role("ROLE_USER")
+				.build());
+		Post first = savePost(tag + "-1", writer);
+		Post second = savePost(tag + "-2", writer);
+		Comment root = commentRepository.save(Comment.create(first, writer, null, "root"));
+		commentRepository.save(Comment.create(first, writer, root, "reply"));
+
+		// 다른 테스트의 게시글이 같은 ID 범위에 있을 수 있으므로 이 테스트의 게시글만 비교
+		List<PostArchiveDto> all = export(first.getId() - 1, tag);
+		assertThat(all).extracting(PostArchiveDto::getTitle).containsExactly(tag + "-1", tag + "-2");
+		assertThat(all.get(0).getComments())
+				.extracting(CommentArchiveDto::getContent, CommentArchiveDto::getParentId, CommentArchiveDto::getWriterEmail)
+				.containsExactly(
+						tuple("root", null, writer.getEmail()),
+						tuple("reply", root.getId(), writer.getEmail()));
+		assertThat(all.get(1).getComments()).isEmpty();
+
+		// 첫 줄까지 받고 끊긴 경우: 마지막 id 이후부터 이어받기
+		List<PostArchiveDto> resumed = export(all.get(0).getId(), tag);
+		assertThat(resumed).extracting(PostArchiveDto::getId).containsExactly(second.getId());
+	}
+
+	private List<PostArchiveDto> export(Long after, String tag) throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/admin/export")
+						.param("after", String.valueOf(after))
+						.header("Authorization", "Bearer " + jwtTokenProvider.createToken("admin@test.com", "ROLE_ADMIN", "admin")))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("application/x-ndjson"))
+				.andReturn().getResponse().getContentAsString();
+
+		List<PostArchiveDto> posts = new ArrayList<>();
+		for (String line : body.split("\n")) {
+			if (line.isBlank()) {
+				continue;
+			}
+			PostArchiveDto post = objectMapper.readValue(line, PostArchiveDto.class);
+			if (post.getTitle().startsWith(tag)) {
+				posts.add(post);
+			}
+		}
+		return posts;
+	}
+
+	private Post savePost(String title, User writer) {
+		return postRepository.save(Post.builder()
+				.title(title)
+				.content("content")
+				.email(writer.getEmail())
+				.nickname(writer.getNickname())
+				.build());
+	}
+}
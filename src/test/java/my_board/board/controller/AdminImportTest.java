@@ -0,0 +1,156 @@
+package my_board.board.controller;
+
+import my_board.board.entity.User;
+import my_board.board.jwt.JwtTokenProvider;
+import my_board.board.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminImportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void importRequiresAdminRole() throws Exception {
+		mockMvc.perform(post("/api/admin/import")
+						.header("Authorization", "Bearer " + jwtTokenProvider.createToken("user@test.com", "ROLE_USER", "user"))
+						.content("{}"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void importsNdjsonInBatchesAndReportsRowErrors() throws Exception {
+		String writer = createUser();
+		String tag = UUID.randomUUID().toString();
+		String ndjson = String.join("\n",
+				"{\"title\":\"" + tag + "-1\",\"content\":\"c\",\"email\":\"" + writer + "\",\"nickname\":\"n\","
+						+ "\"createAt\":\"2019-03-01T10:00:00\",\"comments\":["
+						+ "{\"id\":10,\"content\":\"root\",\"writerEmail\":\"" + writer + "\"},"
+						+ "{\"id\":11,\"parentId\":10,\"content\":\"reply\",\"writerEmail\":\"" + writer + "\"},"
+						+ "{\"id\":12,\"content\":\"gone\",\"writerEmail\":\"" + writer + "\",\"deleted\":true}]}",
+				"{\"content\":\"no title\",\"email\":\"" + writer + "\"}",
+				"{\"title\":\"" + tag + "-3\",\"email\":\"" + writer + "\",\"comments\":[{\"content\":\"x\",\"writerEmail\":\"nobody-" + tag + "@test.com\"}]}",
+				"{\"title\":\"" + tag + "-4\",\"email\":\"" + writer + "\"}",
+				"{\"title\":\"" + tag + "-5\",\"email\":\"" + writer + "\"}",
+				"");
+
+		mockMvc.perform(post("/api/admin/import")
+						.header("Authorization", "Bearer " + adminToken())
+						.contentType("application/x-ndjson")
+						.content(ndjson))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(5))
+				.andExpect(jsonPath("$.importedPosts").value(3))
+				.andExpect(jsonPath("$.importedComments").value(3))
+				.andExpect(jsonPath("$.failedRows").value(2))
+				.andExpect(jsonPath("$.errors[0].row").value(2))
+				.andExpect(jsonPath("$.errors[1].row").value(3))
+				.andExpect(jsonPath("$.aborted").value(false));
+
+		Long postId = jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, tag + "-1");
+		// 원래 작성 시간 유지, 댓글 수는 삭제되지 않은 댓글만
+		assertThat(jdbcTemplate.queryForObject("select create_at from post where id = ?", LocalDateTime.class, postId))
+				.isEqualTo(LocalDateTime.of(2019, 3, 1, 10, 0));
+		assertThat(jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, postId))
+				.isEqualTo(2);
+
+		// 답글은 새로 저장된 부모 댓글 ID를 가리킴
+		Long replyParent = jdbcTemplate.queryForObject(
+				"select parent_id from comments where post_id = ? and content = 'reply'", Long.class, postId);
+		Long rootId = jdbcTemplate.queryForObject(
+				"select id from comments where post_id = ? and content = 'root'", Long.class, postId);
+		assertThat(replyParent).isEqualTo(rootId);
+
+		assertThat(jdbcTemplate.queryForObject("select count(*) from post where title like ?", Long.class, tag + "%"))
+				.isEqualTo(3);
+	}
+
+	@Test
+	void jsonArrayStopsAtSyntaxErrorKeepingEarlierBatches() throws Exception {
+		String writer = createUser();
+		String tag = UUID.randomUUID().toString();
+		String array = "[" +
+				"{\"title\":\"" + tag + "-1\",\"email\":\"" + writer + "\"}," +
+				"{\"title\":\"" + tag + "-2\",\"email\":\"" + writer + "\"}," +
+				"{\"title\":\"" + tag + "-3\",\"email\": }]";
+
+		mockMvc.perform(post("/api/admin/import")
+						.header("Authorization", "Bearer " + adminToken())
+						.contentType("application/json")
+						.content(array))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.importedPosts").value(2))
+				.andExpect(jsonPath("$.failedRows").value(1))
+				.andExpect(jsonPath("$.aborted").value(true));
+
+		assertThat(jdbcTemplate.queryForObject("select count(*) from post where title like ?", Long.class, tag + "%"))
+				.isEqualTo(2);
+	}
+
+	@Test
+	void ndjsonStopsAtMalformedLineKeepingPendingRows() throws Exception {
+		String writer = createUser();
+		String tag = UUID.randomUUID().toString();
+		// 배치 크기 2: 1, 2번은 저장된 뒤 3번은 저장 대기 중에 4번 줄에서 문법 오류
+		String ndjson = String.join("\n",
+				"{\"title\":\"" + tag + "-1\",\"email\":\"" + writer + "\"}",
+				"{\"title\":\"" + tag + "-2\",\"email\":\"" + writer + "\"}",
+				"{\"title\":\"" + tag + "-3\",\"email\":\"" + writer + "\"}",
+				"garbage {\"title\":\"" + tag + "-4\",\"email\":\"" + writer + "\"}",
+				"{\"title\":\"" + tag + "-5\",\"email\":\"" + writer + "\"}",
+				"");
+
+		mockMvc.perform(post("/api/admin/import")
+						.header("Authorization", "Bearer " + adminToken())
+						.contentType("application/x-ndjson")
+						.content(ndjson))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(4))
+				.andExpect(jsonPath("$.importedPosts").value(3))
+				.andExpect(jsonPath("$.failedRows").value(1))
+				.andExpect(jsonPath("$.errors[0].row").value(4))
+				.andExpect(jsonPath("$.aborted").value(true));
+
+		assertThat(jdbcTemplate.queryForObject("select count(*) from post where title like ?", Long.class, tag + "%"))
+				.isEqualTo(3);
+	}
+
+	private String adminToken() {
+		return jwtTokenProvider.createToken("admin@test.com", "ROLE_ADMIN", "admin");
+	}
+
+	private String createUser() {
+		String email = UUID.randomUUID() + "@test.com";
+		userRepository.save(User.builder()
+				.email(email)
+				.password("password")
+				.nickname("importer-" + email.substring(0, 8))
+				.role("ROLE_USER")
+				.build());
+		return email;
+	}
+}
@@ -0,0 +1,177 @@
+package my_board.board.controller;
+
+import my_board.board.entity.Comment;
+import my_board.board.entity.Post;
+import my_board.board.entity.User;
+import my_board.board.jwt.JwtTokenProvider;
+import my_board.board.repository.CommentRepository;
+import my_board.board.repository.PostRepository;
+import my_board.board.repository.UserRepository;
+import my_board.board.service.CommentService;
+import my_board.board.support.QueryBudget;
+import my_board.board.support.QueryBudgetConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러 핫 패스별 쿼리 수 / 느린 쿼리 예산 테스트
+ * N+1이나 전체 조회(findAll)가 다시 들어오면 여기서 실패
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryBudgetConfig.class)
+class HotPathQueryBudgetTest {
+
+	private static final AtomicInteger SEQ = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private User author;
+	private Long postId;
+
+	@BeforeEach
+	void setUp() {
+		int seq = SEQ.incrementAndGet();
+		List<User> writers = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			writers.add(userRepository.save(User.builder()
+					.email("budget" + seq + "-" + i + "@test.com")
+					.password(passwordEncoder.encode("password"))
+					.nickname("budget" + seq + "-" + i)
+					.role("ROLE_USER")
+					.build()));
+		}
+		author = writers.get(0);
+
+		Post post = postRepository.save(Post.builder()
+				.title("budget " + seq)
+				.content("content")
+				.email(author.getEmail())
+				.nickname(author.getNickname())
+				.build());
+		postId = post.getId();
+
+		List<Comment> roots = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			roots.add(Comment.create(post, writers.get(i % writers.size()), null, "root " + i));
+		}
+		commentRepository.saveAll(roots);
+
+		List<Comment> replies = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			replies.add(Comment.create(post, writers.get(i % writers.size()), roots.get(i % 10), "reply " + i));
+		}
+		commentRepository.saveAll(replies);
+	}
+
+	@Test
+	void commentServiceGetComments() throws Exception {
+		QueryBudget.of("CommentService.getComments")
+				.maxStatements(2)
+				.verify(() -> commentService.getComments(postId));
+	}
+
+	@Test
+	void postControllerReadPaths() throws Exception {
+		QueryBudget.of("GET /api/posts")
+				.maxStatements(1)
+				.verify(() -> mockMvc.perform(get("/api/posts").param("size", "20"))
+						.andExpect(status().isOk()));
+
+		QueryBudget.of("GET /api/posts/summaries")
+				.maxStatements(1)
+				.verify(() -> mockMvc.perform(get("/api/posts/summaries").param("size", "20"))
+						.andExpect(status().isOk()));
+
+		QueryBudget.of("GET /api/posts/{id} (cold)")
+				.maxStatements(1)
+				.verify(() -> mockMvc.perform(get("/api/posts/{id}", postId))
+						.andExpect(status().isOk()));
+
+		QueryBudget.of("GET /api/posts/{id} (cached)")
+				.maxStatements(0)
+				.verify(() -> mockMvc.perform(get("/api/posts/{id}", postId))
+						.andExpect(status().isOk()));
+	}
+
+	@Test
+	void commentControllerPaths() throws Exception {
+		QueryBudget.of("GET /api/posts/{postId}/comments")
+				.maxStatements(2)
+				.verify(() -> mockMvc.perform(get("/api/posts/{postId}/comments", postId))
+						.andExpect(status().isOk()));
+
+		// 최상위 댓글 1 + 깊이별 답글 (기본 최대 5) + 답글 수 집계 1
+		QueryBudget.of("GET /api/posts/{postId}/comments/tree")
+				.maxStatements(7)
+				.verify(() -> mockMvc.perform(get("/api/posts/{postId}/comments/tree", postId))
+						.andExpect(status().isOk()));
+
+		String token = jwtTokenProvider.createToken(author.getEmail(), author.getRole(), author.getNickname());
+		QueryBudget.of("POST /api/posts/{postId}/comments")
+				.maxStatements(4)
+				.verify(() -> mockMvc.perform(post("/api/posts/{postId}/comments", postId)
+								.header("Authorization", "Bearer " + token)
+								.contentType(MediaType.APPLICATION_JSON)
+								.content("{\"content\":\"budget\"}"))
+						.andExpect(status().isOk()));
+	}
+
+	@Test
+	void userControllerPaths() throws Exception {
+		// 처음 보는 닉네임은 블룸 필터만으로 "사용 가능" 응답 (DB 조회 없음)
+		QueryBudget.of("GET /api/users/check-nickname")
+				.maxStatements(0)
+				.verify(() -> mockMvc.perform(get("/api/users/check-nickname").param("nickname", "nobody-" + SEQ.get()))
+						.andExpect(status().isOk()));
+
+		QueryBudget.of("POST /api/users/login")
+				.maxStatements(3)
+				.verify(() -> mockMvc.perform(post("/api/users/login")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content("{\"email\":\"" + author.getEmail() + "\",\"password\":\"password\"}"))
+						.andExpect(status().isOk()));
+
+		int seq = SEQ.incrementAndGet();
+		QueryBudget.of("POST /api/users/register")
+				.maxStatements(2)
+				.verify(() -> mockMvc.perform(post("/api/users/register")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content("{\"email\":\"new" + seq + "@test.com\",\"password\":\"pw\",\"nickname\":\"new" + seq + "\"}"))
+						.andExpect(status().isOk()));
+	}
+}
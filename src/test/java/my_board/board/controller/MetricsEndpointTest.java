@@ -0,0 +1,78 @@
+package my_board.board.controller;
+
+import my_board.board.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus 메트릭 노출 테스트
+ * 엔드포인트 응답 시간 히스토그램, 커넥션 풀, Hibernate, 캐시, 인증 실패 메트릭이 모두 노출되는지 확인
+ * 메트릭과 운영 통계는 관리자만 조회 가능
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Test
+	void exposesEndpointPoolHibernateCacheAndAuthMetrics() throws Exception {
+		mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+		mockMvc.perform(get("/api/monitoring/caches/post-detail")
+				.header("Authorization", "Bearer not-a-jwt"));
+
+		String body = mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + token("ROLE_ADMIN")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(body)
+				.contains("http_server_requests_seconds_bucket")
+				.contains("uri=\"/api/posts\"")
+				.contains("quantile=\"0.99\"")
+				.contains("hikaricp_connections_active")
+				.contains("hikaricp_connections_acquire_seconds")
+				.contains("hibernate_statements_total")
+				.contains("hibernate_entities_loads_total")
+				.contains("cache=\"post-detail\"")
+				.contains("cache=\"tracking\"")
+				.contains("cache=\"jwt-verified\"")
+				.contains("auth_failures_total{reason=\"malformed\"}")
+				.contains("password_hashing_queue_depth")
+				.contains("upstream_requests_seconds_bucket");
+	}
+
+	@Test
+	void metricsAndMonitoringRequireAdminRole() throws Exception {
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+		mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/prometheus")
+						.header("Authorization", "Bearer " + token("ROLE_USER")))
+				.andExpect(status().isForbidden());
+
+		mockMvc.perform(get("/api/monitoring/caches/post-detail")
+						.header("Authorization", "Bearer " + token("ROLE_USER")))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/monitoring/caches/post-detail")
+						.header("Authorization", "Bearer " + token("ROLE_ADMIN")))
+				.andExpect(status().isOk());
+	}
+
+	private String token(String role) {
+		return jwtTokenProvider.createToken("metrics@test.com", role, "metrics");
+	}
+}
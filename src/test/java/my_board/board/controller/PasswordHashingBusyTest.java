@@ -0,0 +1,149 @@
+package my_board.board.controller;
+
+import my_board.board.entity.User;
+import my_board.board.repository.UserRepository;
+import my_board.board.service.PasswordHashingBusyException;
+import my_board.board.service.PasswordHashingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호 해시 풀 포화 테스트
+ * 스레드 1개 + 대기열 1칸을 멈춰둔 작업으로 채운 뒤, 다음 요청이 기다리지 않고 바로 거절되는지 확인
+ * - 서비스: PasswordHashingBusyException
+ * - 로그인 API: 503 + Retry-After
+ */
+@SpringBootTest(properties = {
+		"board.password-hashing.threads=1",
+		"board.password-hashing.queue-capacity=1",
+		"board.password-hashing.timeout-millis=10000"
+})
+@AutoConfigureMockMvc
+@Import(PasswordHashingBusyTest.GateConfig.class)
+class PasswordHashingBusyTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PasswordHashingService passwordHashingService;
+
+	@Autowired
+	private GatedPasswordEncoder passwordEncoder;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+		String email = UUID.randomUUID() + "@test.com";
+		userRepository.save(User.builder()
+				.email(email)
+				.password("not-checked")
+				.nickname(email)
+				.role("ROLE_USER")
+				.build());
+
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			// 1건은 스레드에서 멈춰 있고, 1건은 대기열에서 대기
+			Future<?> running = callers.submit(() -> passwordHashingService.matches("pw", "hash"));
+			assertThat(passwordEncoder.entered.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<?> queued = callers.submit(() -> passwordHashingService.matches("pw", "hash"));
+			waitForQueueDepth(1);
+
+			assertThatThrownBy(() -> passwordHashingService.matches("pw", "hash"))
+					.isInstanceOf(PasswordHashingBusyException.class);
+
+			mockMvc.perform(post("/api/users/login")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content("{\"email\":\"" + email + "\",\"password\":\"pw\"}"))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+			passwordEncoder.release.countDown();
+			for (Future<?> future : List.of(running, queued)) {
+				future.get(5, TimeUnit.SECONDS);
+			}
+			assertThat(passwordHashingService.stats().get("rejectedCount")).isEqualTo(2L);
+		} finally {
+			passwordEncoder.release.countDown();
+			callers.shutdownNow();
+		}
+	}
+
+	private void waitForQueueDepth(int depth) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (passwordHashingService.getQueueDepth() < depth) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	@TestConfiguration
+	static class GateConfig {
+
+		@Bean
+		@Primary
+		GatedPasswordEncoder gatedPasswordEncoder() {
+			return new GatedPasswordEncoder();
+		}
+	}
+
+	/**
+	 * release가 열릴 때까지 해시 작업을 멈춰두는 인코더
+	 */
+	static class GatedPasswordEncoder implements PasswordEncoder {
+
+		final CountDownLatch entered = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		private final PasswordEncoder delegate = new BCryptPasswordEncoder();
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			await();
+			return delegate.encode(rawPassword);
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			await();
+			return delegate.matches(rawPassword, encodedPassword);
+		}
+
+		private void await() {
+			entered.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
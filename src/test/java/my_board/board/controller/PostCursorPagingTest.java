@@ -0,0 +1,134 @@
+package my_board.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my_board.board.entity.Post;
+import my_board.board.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 페이지네이션 테스트 (/api/posts, /api/posts/summaries)
+ * 작성 시간이 같은 글이 페이지 경계에 걸쳐도 중복/누락 없이 끝까지 이어지는지 확인
+ * 전체 목록을 끝까지 훑어야 하므로 다른 테스트와 섞이지 않는 별도 DB 사용
+ */
+@SpringBootTest(properties =
+		"spring.datasource.url=jdbc:h2:mem:cursor_paging;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class PostCursorPagingTest {
+
+	private static final int PAGE_SIZE = 4;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private List<Post> expected;
+
+	@BeforeEach
+	void setUp() {
+		postRepository.deleteAllInBatch();
+
+		// 같은 작성 시간 10건씩 두 묶음 + 서로 다른 시간 5건
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+		List<Post> posts = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			posts.add(post("same-a " + i, base));
+			posts.add(post("same-b " + i, base.minusMinutes(1)));
+		}
+		for (int i = 0; i < 5; i++) {
+			posts.add(post("distinct " + i, base.minusHours(i + 1)));
+		}
+		expected = postRepository.saveAll(posts).stream()
+				.sorted(Comparator.comparing(Post::getCreateAt).thenComparing(Post::getId).reversed())
+				.toList();
+	}
+
+	@Test
+	void postPagesCoverEveryRowOnceAcrossEqualCreateAt() throws Exception {
+		assertThat(walk("/api/posts")).containsExactlyElementsOf(expected.stream().map(Post::getId).toList());
+	}
+
+	@Test
+	void summaryPagesCoverEveryRowOnceAcrossEqualCreateAt() throws Exception {
+		assertThat(walk("/api/posts/summaries")).containsExactlyElementsOf(expected.stream().map(Post::getId).toList());
+	}
+
+	@Test
+	void malformedCursorIsBadRequest() throws Exception {
+		String noSeparator = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("2024-01-01T12:00".getBytes(StandardCharsets.UTF_8));
+		String badTime = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+		for (String path : List.of("/api/posts", "/api/posts/summaries")) {
+			for (String cursor : List.of("not a cursor!", noSeparator, badTime)) {
+				mockMvc.perform(get(path).param("cursor", cursor))
+						.andExpect(status().isBadRequest());
+			}
+		}
+	}
+
+	/**
+	 * nextCursor를 따라 마지막 페이지까지 조회하며 받은 id를 순서대로 모음
+	 * 마지막 페이지를 제외한 모든 페이지는 꽉 차 있어야 하고, 마지막 페이지는 hasNext=false, nextCursor=null
+	 */
+	private List<Long> walk(String path) throws Exception {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		while (true) {
+			MockHttpServletRequestBuilder request = get(path).param("size", String.valueOf(PAGE_SIZE));
+			if (cursor != null) {
+				request.param("cursor", cursor);
+			}
+			JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString());
+			page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+			pages++;
+
+			if (!page.get("hasNext").asBoolean()) {
+				assertThat(page.get("nextCursor").isNull()).isTrue();
+				assertThat(page.get("items").size()).isBetween(1, PAGE_SIZE);
+				break;
+			}
+			assertThat(page.get("items").size()).isEqualTo(PAGE_SIZE);
+			assertThat(pages).isLessThanOrEqualTo(expected.size());
+			cursor = page.get("nextCursor").asText();
+		}
+		assertThat(ids).doesNotHaveDuplicates();
+		return ids;
+	}
+
+	private Post post(String title, LocalDateTime createAt) {
+		return Post.builder()
+				.title(title)
+				.content("content")
+				.email("cursor@test.com")
+				.nickname("cursor")
+				.createAt(createAt)
+				.build();
+	}
+}
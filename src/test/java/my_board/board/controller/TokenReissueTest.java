@@ -0,0 +1,94 @@
+package my_board.board.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my_board.board.jwt.JwtTokenProvider;
+import my_board.board.jwt.RefreshTokenStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 토큰 재발급 테스트
+ * 권한(role), 닉네임은 서버가 서명한 같은 사용자의 Access Token에서만 가져오는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenReissueTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private RefreshTokenStore refreshTokenStore;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void rejectsAccessTokenOfAnotherUser() throws Exception {
+		String email = UUID.randomUUID() + "@test.com";
+		String refreshToken = login(email);
+		String adminToken = jwtTokenProvider.createToken("admin@test.com", "ROLE_ADMIN", "admin");
+
+		reissue(adminToken, refreshToken).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void rejectsAccessTokenWithForgedClaims() throws Exception {
+		String email = UUID.randomUUID() + "@test.com";
+		String refreshToken = login(email);
+
+		// 관리자 권한 claims에 다른 토큰의 서명을 붙인 위조 토큰
+		String[] claims = jwtTokenProvider.createToken(email, "ROLE_ADMIN", "admin").split("\\.");
+		String[] signed = jwtTokenProvider.createToken(email, "ROLE_USER", email).split("\\.");
+		String forged = claims[0] + "." + claims[1] + "." + signed[2];
+
+		reissue(forged, refreshToken).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void keepsRoleAndNicknameOfVerifiedAccessToken() throws Exception {
+		String email = UUID.randomUUID() + "@test.com";
+		String refreshToken = login(email);
+		String accessToken = jwtTokenProvider.createToken(email, "ROLE_USER", "nick");
+
+		String body = reissue(accessToken, refreshToken)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		JsonNode response = objectMapper.readTree(body);
+		String newAccessToken = response.get("accessToken").asText();
+		assertThat(jwtTokenProvider.getEmail(newAccessToken)).isEqualTo(email);
+		assertThat(jwtTokenProvider.getRole(newAccessToken)).isEqualTo("ROLE_USER");
+		assertThat(jwtTokenProvider.getNickname(newAccessToken)).isEqualTo("nick");
+	}
+
+	private ResultActions reissue(String accessToken, String refreshToken) throws Exception {
+		return mockMvc.perform(post("/api/users/reissue")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(Map.of(
+						"accessToken", accessToken,
+						"refreshToken", refreshToken))));
+	}
+
+	private String login(String email) {
+		String refreshToken = jwtTokenProvider.createRefreshToken(email);
+		refreshTokenStore.save(email, refreshToken, jwtTokenProvider.getRefreshTokenExpiresAt());
+		return refreshToken;
+	}
+}
@@ -0,0 +1,141 @@
+package my_board.board.jwt;
+
+import my_board.board.repository.RefreshTokenRepository;
+import my_board.board.support.QueryBudgetConfig;
+import my_board.board.support.QueryRecorder;
+import my_board.board.support.QueryReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static my_board.board.jwt.RefreshTokenStore.RotationResult.NOT_FOUND;
+import static my_board.board.jwt.RefreshTokenStore.RotationResult.REUSED;
+import static my_board.board.jwt.RefreshTokenStore.RotationResult.ROTATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token 저장소 테스트 (메모리 / JPA 구현체 모두 같은 동작인지 확인)
+ * - 토큰 회전, 재사용 감지 시 저장된 토큰 폐기
+ * - 만료된 토큰 거부
+ * - RefreshTokenSweeper를 통한 만료 토큰 일괄 삭제 (JPA는 묶음 단위 DELETE)
+ */
+@SpringBootTest(properties = "board.refresh-token.purge-batch-size=" + RefreshTokenStoreTest.PURGE_BATCH_SIZE)
+@Import(QueryBudgetConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RefreshTokenStoreTest {
+
+	static final int PURGE_BATCH_SIZE = 2;
+
+	@Autowired
+	private JpaRefreshTokenStore jpaStore;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	private final InMemoryRefreshTokenStore memoryStore = new InMemoryRefreshTokenStore();
+
+	@BeforeEach
+	void clearJpaStore() {
+		// 만료 토큰 삭제 건수를 정확히 비교하기 위해 다른 테스트가 남긴 토큰 제거
+		refreshTokenRepository.deleteAllInBatch();
+	}
+
+	Stream<Named<RefreshTokenStore>> stores() {
+		return Stream.of(Named.of("memory", memoryStore), Named.of("jpa", jpaStore));
+	}
+
+	@ParameterizedTest
+	@MethodSource("stores")
+	void rotatesMatchingToken(RefreshTokenStore store) {
+		String email = newEmail();
+		store.save(email, "first", later());
+
+		assertThat(store.rotate(email, "first", "second", later())).isEqualTo(ROTATED);
+		assertThat(store.rotate(email, "second", "third", later())).isEqualTo(ROTATED);
+	}
+
+	@ParameterizedTest
+	@MethodSource("stores")
+	void reuseOfRotatedTokenRevokesStoredToken(RefreshTokenStore store) {
+		String email = newEmail();
+		store.save(email, "first", later());
+		assertThat(store.rotate(email, "first", "second", later())).isEqualTo(ROTATED);
+
+		// 이미 교체된 토큰 재사용 → 정상 사용자의 최신 토큰까지 폐기
+		assertThat(store.rotate(email, "first", "attacker", later())).isEqualTo(REUSED);
+		assertThat(store.rotate(email, "second", "third", later())).isEqualTo(NOT_FOUND);
+	}
+
+	@ParameterizedTest
+	@MethodSource("stores")
+	void expiredTokenIsNotFound(RefreshTokenStore store) {
+		String email = newEmail();
+		store.save(email, "first", earlier());
+
+		assertThat(store.rotate(email, "first", "second", later())).isEqualTo(NOT_FOUND);
+		assertThat(store.rotate(newEmail(), "first", "second", later())).isEqualTo(NOT_FOUND);
+	}
+
+	@ParameterizedTest
+	@MethodSource("stores")
+	void revokedTokenIsNotFound(RefreshTokenStore store) {
+		String email = newEmail();
+		store.save(email, "first", later());
+		store.revoke(email);
+
+		assertThat(store.rotate(email, "first", "second", later())).isEqualTo(NOT_FOUND);
+	}
+
+	@ParameterizedTest
+	@MethodSource("stores")
+	void sweeperPurgesOnlyExpiredTokens(RefreshTokenStore store) {
+		for (int i = 0; i < 5; i++) {
+			store.save(newEmail(), "expired", earlier());
+		}
+		String alive = newEmail();
+		store.save(alive, "alive", later());
+
+		new RefreshTokenSweeper(store).sweep();
+
+		assertThat(store.purgeExpired(Instant.now())).isZero();
+		assertThat(store.rotate(alive, "alive", "next", later())).isEqualTo(ROTATED);
+	}
+
+	@Test
+	void jpaPurgeDeletesInBatches() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			jpaStore.save(newEmail(), "expired", earlier());
+		}
+
+		int[] removed = new int[1];
+		QueryReport report = QueryRecorder.getInstance().record(() -> removed[0] = jpaStore.purgeExpired(Instant.now()));
+
+		// 묶음 3개(2 + 2 + 1): 묶음마다 만료 이메일 조회 1회 + IN 목록 DELETE 1회
+		assertThat(removed[0]).isEqualTo(5);
+		assertThat(report.statementCount()).as(report.describe()).isEqualTo(6);
+		assertThat(refreshTokenRepository.count()).isZero();
+	}
+
+	private static String newEmail() {
+		return UUID.randomUUID() + "@test.com";
+	}
+
+	private static Instant later() {
+		return Instant.now().plus(1, ChronoUnit.HOURS);
+	}
+
+	private static Instant earlier() {
+		return Instant.now().minus(1, ChronoUnit.HOURS);
+	}
+}
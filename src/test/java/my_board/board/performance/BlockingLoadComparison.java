@@ -0,0 +1,145 @@
+package my_board.board.performance;
+
+import com.sun.net.httpserver.HttpServer;
+import my_board.board.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 부하 비교 테스트의 공통 부분
+ * 외부 API(스텁 서버)가 응답마다 UPSTREAM_DELAY_MILLIS만큼 지연될 때
+ * Tomcat 스레드 수(TOMCAT_THREADS)보다 많은 동시 요청을 보내 전체 처리 시간을 측정
+ *
+ * - 플랫폼 스레드: 요청 스레드가 외부 API 응답을 기다리는 동안 묶이므로 약 (요청 수 / 스레드 수) x 지연
+ * - 가상 스레드: 대기 중 캐리어 스레드를 반납하므로 약 1 x 지연
+ *
+ * ./gradlew performanceTest 로 실행 (기본 test 작업에서는 제외)
+ */
+@Tag("performance")
+abstract class BlockingLoadComparison {
+
+	static final int TOMCAT_THREADS = 16;
+
+	static final int CONCURRENT_REQUESTS = 160;
+
+	static final long UPSTREAM_DELAY_MILLIS = 200;
+
+	static final String COMMON_PROPERTIES = "server.tomcat.threads.max=" + TOMCAT_THREADS;
+
+	private static final HttpServer UPSTREAM = startUpstream();
+
+	private static final AtomicInteger INVOICE_SEQ = new AtomicInteger();
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@DynamicPropertySource
+	static void upstreamProperties(DynamicPropertyRegistry registry) {
+		registry.add("smarttracker.base-url", () -> "http://127.0.0.1:" + UPSTREAM.getAddress().getPort());
+		// 외부 API 쪽 제한이 결과에 섞이지 않도록 연결 풀/동시 호출 제한을 넉넉하게
+		registry.add("smarttracker.http.max-connections", () -> CONCURRENT_REQUESTS * 2);
+		registry.add("smarttracker.http.max-connections-per-route", () -> CONCURRENT_REQUESTS * 2);
+		registry.add("smarttracker.bulkhead.max-concurrent-calls", () -> CONCURRENT_REQUESTS * 2);
+		registry.add("smarttracker.bulkhead.max-wait-millis", () -> 10_000);
+	}
+
+	/**
+	 * 모드 이름 (결과 출력용)
+	 */
+	abstract String mode();
+
+	/**
+	 * 측정한 전체 처리 시간 검증
+	 */
+	abstract void verifyElapsed(long elapsedMillis);
+
+	@Test
+	void concurrentBlockingRequests() throws Exception {
+		String token = jwtTokenProvider.createToken("load@test.com", "ROLE_USER", "load");
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+
+		// 연결/클래스 로딩 등 첫 요청 비용 제외
+		assertThat(send(client, token).join().statusCode()).isEqualTo(200);
+
+		long start = System.nanoTime();
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			responses.add(send(client, token));
+		}
+		CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertThat(responses).allSatisfy(r -> assertThat(r.join().statusCode()).isEqualTo(200));
+		System.out.printf("[%s] %d concurrent requests, tomcat threads %d, upstream delay %dms -> %dms (%.1f req/s)%n",
+				mode(), CONCURRENT_REQUESTS, TOMCAT_THREADS, UPSTREAM_DELAY_MILLIS,
+				elapsedMillis, CONCURRENT_REQUESTS * 1000.0 / Math.max(elapsedMillis, 1));
+		verifyElapsed(elapsedMillis);
+	}
+
+	private CompletableFuture<HttpResponse<String>> send(HttpClient client, String token) {
+		// 송장번호를 모두 다르게 하여 조회 결과 캐시를 거치지 않도록 함
+		String body = "{\"carrier\":\"04\",\"invoice\":\"" + INVOICE_SEQ.incrementAndGet() + "\"}";
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/getTrackingDelivery"))
+				.header("Content-Type", "application/json")
+				.header("Authorization", "Bearer " + token)
+				.POST(HttpRequest.BodyPublishers.ofString(body))
+				.build();
+		return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	/**
+	 * 응답마다 고정 지연 후 배송 중 상태를 반환하는 스텁 서버
+	 */
+	private static HttpServer startUpstream() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+			server.createContext("/api/v1/trackingInfo", exchange -> {
+				try {
+					Thread.sleep(UPSTREAM_DELAY_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				byte[] body = "{\"level\":3,\"complete\":false}".getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			});
+			server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+			server.start();
+			return server;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package my_board.board.performance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import my_board.board.entity.Post;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 대량 INSERT 처리량 비교
+ *
+ * - 이전(IDENTITY): INSERT를 실행해야 ID를 알 수 있어 Hibernate가 배치를 끄고 행마다 한 번씩 전송
+ *   여기서는 같은 엔티티를 세션 배치 크기 1로 저장하여 재현 (IDENTITY는 생성 키 조회까지 더해지므로 실제로는 더 느림)
+ * - 이후(SnowflakeId): ID를 미리 만들어 hibernate.jdbc.batch_size(50)개씩 묶어 전송
+ *
+ * 인메모리 H2는 왕복 비용이 거의 없어 차이가 작게 나오며, 네트워크를 거치는 MySQL에서는 차이가 훨씬 커짐
+ * ./gradlew performanceTest 로 실행 (기본 test 작업에서는 제외)
+ */
+@Tag("performance")
+@SpringBootTest
+class BulkInsertBenchmarkTest {
+
+	private static final int ROWS = 20_000;
+
+	private static final int FLUSH_EVERY = 500;
+
+	private static final int ROUNDS = 3;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void batchedInsertsNeedFewerStatementsAndRunFaster() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// 워밍업
+		insert(ROWS / 10, 1);
+		insert(ROWS / 10, null);
+
+		long unbatchedMillis = Long.MAX_VALUE;
+		long batchedMillis = Long.MAX_VALUE;
+		long unbatchedStatements = 0;
+		long batchedStatements = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			statistics.clear();
+			unbatchedMillis = Math.min(unbatchedMillis, insert(ROWS, 1));
+			unbatchedStatements = statistics.getPrepareStatementCount();
+
+			statistics.clear();
+			batchedMillis = Math.min(batchedMillis, insert(ROWS, null));
+			batchedStatements = statistics.getPrepareStatementCount();
+		}
+
+		System.out.printf("[bulk-insert] rows=%d unbatched=%dms (%d rows/s, %d statements) batched=%dms (%d rows/s, %d statements)%n",
+				ROWS,
+				unbatchedMillis, ROWS * 1000L / Math.max(unbatchedMillis, 1), unbatchedStatements,
+				batchedMillis, ROWS * 1000L / Math.max(batchedMillis, 1), batchedStatements);
+
+		assertThat(batchedStatements).isLessThan(unbatchedStatements / 10);
+		assertThat(batchedMillis).isLessThan(unbatchedMillis);
+	}
+
+	/**
+	 * 게시글 rows건 저장 후 걸린 시간 반환
+	 *
+	 * @param batchSize 세션 JDBC 배치 크기 (null이면 설정값 사용)
+	 */
+	private long insert(int rows, Integer batchSize) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+			long started = System.nanoTime();
+			entityManager.getTransaction().begin();
+			for (int i = 0; i < rows; i++) {
+				entityManager.persist(Post.builder()
+						.title("bulk " + i)
+						.content("content " + i)
+						.email("bulk@test.com")
+						.nickname("bulk")
+						.build());
+				if ((i + 1) % FLUSH_EVERY == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+			entityManager.getTransaction().commit();
+			return (System.nanoTime() - started) / 1_000_000;
+		} finally {
+			entityManager.close();
+		}
+	}
+}
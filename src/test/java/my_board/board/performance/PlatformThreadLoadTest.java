@@ -0,0 +1,28 @@
+package my_board.board.performance;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 모드 (기본값) 부하 측정
+ * 요청 스레드 수만큼만 동시에 외부 API를 기다릴 수 있음
+ */
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {BlockingLoadComparison.COMMON_PROPERTIES, "spring.threads.virtual.enabled=false"}
+)
+class PlatformThreadLoadTest extends BlockingLoadComparison {
+
+	@Override
+	String mode() {
+		return "platform";
+	}
+
+	@Override
+	void verifyElapsed(long elapsedMillis) {
+		// 요청 스레드 수로 나눈 만큼 순서대로 처리됨
+		long waves = CONCURRENT_REQUESTS / TOMCAT_THREADS;
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(waves * UPSTREAM_DELAY_MILLIS * 8 / 10);
+	}
+}
@@ -0,0 +1,28 @@
+package my_board.board.performance;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 부하 측정
+ * 같은 Tomcat 스레드 설정에서도 외부 API 대기 중인 요청이 캐리어 스레드를 점유하지 않음
+ */
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {BlockingLoadComparison.COMMON_PROPERTIES, "spring.threads.virtual.enabled=true"}
+)
+class VirtualThreadLoadTest extends BlockingLoadComparison {
+
+	@Override
+	String mode() {
+		return "virtual";
+	}
+
+	@Override
+	void verifyElapsed(long elapsedMillis) {
+		// 플랫폼 스레드 모드의 절반 이하 (이론상 약 1 x 지연)
+		long platformLowerBound = CONCURRENT_REQUESTS / TOMCAT_THREADS * UPSTREAM_DELAY_MILLIS;
+		assertThat(elapsedMillis).isLessThan(platformLowerBound / 2);
+	}
+}
@@ -0,0 +1,174 @@
+package my_board.board.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import my_board.board.dto.CommentRequestDto;
+import my_board.board.dto.CommentResponseDto;
+import my_board.board.dto.CommentTreeDto;
+import my_board.board.dto.CursorPageDto;
+import my_board.board.entity.Comment;
+import my_board.board.entity.Post;
+import my_board.board.entity.User;
+import my_board.board.repository.CommentRepository;
+import my_board.board.repository.PostRepository;
+import my_board.board.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentServiceTest {
+
+	private static final AtomicInteger SEQ = new AtomicInteger();
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private CommentCountReconciler commentCountReconciler;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void getCommentsIssuesConstantStatementCountRegardlessOfThreadSize() {
+		Long smallThread = createThread(10, 5);
+		Long largeThread = createThread(500, 50);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		List<CommentResponseDto> small = commentService.getComments(smallThread);
+		long smallStatements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		List<CommentResponseDto> large = commentService.getComments(largeThread);
+		long largeStatements = statistics.getPrepareStatementCount();
+
+		assertThat(small).hasSize(10);
+		assertThat(large).hasSize(500);
+		assertThat(large).allSatisfy(c -> {
+			assertThat(c.getWriterNickname()).isNotNull();
+			assertThat(c.getWriterEmail()).isNotNull();
+			assertThat(c.getPostId()).isEqualTo(largeThread);
+		});
+		assertThat(largeStatements).isEqualTo(smallStatements).isEqualTo(1);
+	}
+
+	@Test
+	void commentCountFollowsAddAndDeleteAndIsReconciled() {
+		// 저장소로 직접 넣은 댓글 3건은 댓글 수에 반영되지 않음 (어긋난 상태)
+		Long postId = createThread(3, 1);
+		String email = "writer" + SEQ.get() + "-0@test.com";
+		assertThat(commentCount(postId)).isZero();
+
+		CommentRequestDto request = new CommentRequestDto();
+		request.setContent("new comment");
+		Long first = commentService.addComment(postId, email, request).getId();
+		commentService.addComment(postId, email, request);
+		assertThat(commentCount(postId)).isEqualTo(2);
+
+		// 같은 댓글을 두 번 삭제해도 한 번만 감소
+		commentService.deleteComment(first, email);
+		commentService.deleteComment(first, email);
+		assertThat(commentCount(postId)).isEqualTo(1);
+
+		// 보정: 삭제되지 않은 댓글 3 + 1 = 4
+		assertThat(commentCountReconciler.reconcile()).isGreaterThanOrEqualTo(1);
+		assertThat(commentCount(postId)).isEqualTo(4);
+		assertThat(commentCountReconciler.reconcile()).isZero();
+	}
+
+	@Test
+	void truncatedTreeNodesCanBeContinuedThroughReplies() {
+		Long postId = createThread(1, 1);
+		Post post = postRepository.findById(postId).orElseThrow();
+		User author = userRepository.findByEmail("writer" + SEQ.get() + "-0@test.com").orElseThrow();
+		Comment root = commentRepository.getReferenceById(commentRepository.findRowsByPostId(postId).get(0).getId());
+
+		List<Comment> replies = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			replies.add(Comment.create(post, author, root, "reply " + i));
+		}
+		commentRepository.saveAll(replies);
+		Comment grandchild = commentRepository.save(Comment.create(post, author, replies.get(0), "grandchild"));
+
+		// 깊이 1, 답글 10건 제한: 최상위 댓글은 답글 10건만, 첫 답글은 자식 없이 잘림 표시
+		CommentTreeDto rootNode = commentService.getCommentTree(postId, null, 20, 1, 10).getItems().get(0);
+		assertThat(rootNode.getReplyCount()).isEqualTo(25);
+		assertThat(rootNode.getChildren()).hasSize(10);
+		assertThat(rootNode.isHasMoreReplies()).isTrue();
+		CommentTreeDto firstReply = rootNode.getChildren().get(0);
+		assertThat(firstReply.isHasMoreReplies()).isTrue();
+		assertThat(firstReply.getRepliesCursor()).isNull();
+
+		// repliesCursor부터 나머지 15건을 중복 없이 이어서 조회
+		List<Long> ids = new ArrayList<>(rootNode.getChildren().stream().map(CommentTreeDto::getId).toList());
+		String cursor = rootNode.getRepliesCursor();
+		CursorPageDto<CommentTreeDto> page;
+		do {
+			page = commentService.getReplies(postId, root.getId(), cursor, 4, 0, 0);
+			page.getItems().forEach(node -> ids.add(node.getId()));
+			cursor = page.getNextCursor();
+		} while (page.isHasNext());
+		assertThat(ids).containsExactlyElementsOf(replies.stream().map(Comment::getId).toList());
+
+		// 깊이 제한으로 잘린 답글은 커서 없이 처음부터 조회
+		List<CommentTreeDto> nested = commentService.getReplies(postId, firstReply.getId(), null, null, null, null).getItems();
+		assertThat(nested).extracting(CommentTreeDto::getId).containsExactly(grandchild.getId());
+		assertThat(nested.get(0).isHasMoreReplies()).isFalse();
+
+		// 다른 게시글 경로로는 조회되지 않음
+		assertThat(commentService.getReplies(createThread(1, 1), root.getId(), null, null, null, null).getItems()).isEmpty();
+	}
+
+	private long commentCount(Long postId) {
+		return postRepository.findById(postId).orElseThrow().getCommentCount();
+	}
+
+	/**
+	 * 작성자 여러 명이 댓글을 단 게시글 생성
+	 */
+	private Long createThread(int commentCount, int authorCount) {
+		int seq = SEQ.incrementAndGet();
+		List<User> authors = new ArrayList<>();
+		for (int i = 0; i < authorCount; i++) {
+			authors.add(userRepository.save(User.builder()
+					.email("writer" + seq + "-" + i + "@test.com")
+					.password("password")
+					.nickname("writer" + seq + "-" + i)
+					.role("ROLE_USER")
+					.build()));
+		}
+
+		Post post = postRepository.save(Post.builder()
+				.title("thread " + seq)
+				.content("content")
+				.email(authors.get(0).getEmail())
+				.nickname(authors.get(0).getNickname())
+				.build());
+
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < commentCount; i++) {
+			comments.add(Comment.create(post, authors.get(i % authorCount), null, "comment " + i));
+		}
+		commentRepository.saveAll(comments);
+		return post.getId();
+	}
+}
@@ -0,0 +1,107 @@
+package my_board.board.service;
+
+import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.dto.DeliveryTrackingResultDto;
+import my_board.board.dto.DeliveryTrackingResultDto.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeliveryBatchServiceTest {
+
+	private DeliveryBatchService batchService;
+
+	@AfterEach
+	void shutdown() {
+		if (batchService != null) {
+			batchService.shutdown();
+		}
+	}
+
+	@Test
+	void totalLatencyIsCloseToSlowestLookupNotTheSum() {
+		batchService = new DeliveryBatchService(delayed(300), 8, 100, 20, 3_000, 5_000, false);
+
+		long start = System.nanoTime();
+		List<DeliveryTrackingResultDto> results = batchService.trackDeliveries(requests(8));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 순차 호출이면 8 x 300ms = 2400ms
+		assertThat(elapsedMillis).isLessThan(1_200);
+		assertThat(results).hasSize(8);
+		assertThat(results).allSatisfy(r -> assertThat(r.getStatus()).isEqualTo(Status.OK));
+		assertThat(results.get(3).getInvoice()).isEqualTo("3");
+		assertThat(results.get(3).getResult()).isEqualTo("{\"invoice\":\"3\"}");
+	}
+
+	@Test
+	void slowItemsTimeOutWhileFastItemsAreReturned() {
+		DeliveryService service = new DeliveryService(null, null) {
+			@Override
+			public byte[] trackDelivery(String carrierCode, String invoiceNumber) {
+				sleep("slow".equals(invoiceNumber) ? 3_000 : 50);
+				return ("{\"invoice\":\"" + invoiceNumber + "\"}").getBytes(StandardCharsets.UTF_8);
+			}
+		};
+		batchService = new DeliveryBatchService(service, 8, 100, 20, 500, 2_000, false);
+
+		List<DeliveryRequestDto> requests = requests(3);
+		requests.add(request("slow"));
+
+		long start = System.nanoTime();
+		List<DeliveryTrackingResultDto> results = batchService.trackDeliveries(requests);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertThat(elapsedMillis).isLessThan(1_500);
+		assertThat(results).extracting(DeliveryTrackingResultDto::getStatus)
+				.containsExactly(Status.OK, Status.OK, Status.OK, Status.TIMEOUT);
+	}
+
+	@Test
+	void rejectsOversizedBatch() {
+		batchService = new DeliveryBatchService(delayed(0), 2, 10, 5, 1_000, 1_000, false);
+
+		assertThatThrownBy(() -> batchService.trackDeliveries(requests(6)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static DeliveryService delayed(long millis) {
+		return new DeliveryService(null, null) {
+			@Override
+			public byte[] trackDelivery(String carrierCode, String invoiceNumber) {
+				sleep(millis);
+				return ("{\"invoice\":\"" + invoiceNumber + "\"}").getBytes(StandardCharsets.UTF_8);
+			}
+		};
+	}
+
+	private static List<DeliveryRequestDto> requests(int count) {
+		List<DeliveryRequestDto> requests = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			requests.add(request(String.valueOf(i)));
+		}
+		return requests;
+	}
+
+	private static DeliveryRequestDto request(String invoice) {
+		DeliveryRequestDto dto = new DeliveryRequestDto();
+		dto.setCarrier("04");
+		dto.setInvoice(invoice);
+		return dto;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
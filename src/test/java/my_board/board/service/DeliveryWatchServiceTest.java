@@ -0,0 +1,75 @@
+package my_board.board.service;
+
+import my_board.board.dto.DeliveryStatusChangeDto;
+import my_board.board.dto.DeliverySubscriptionDto;
+import my_board.board.entity.DeliverySubscription;
+import my_board.board.repository.DeliverySubscriptionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DeliveryWatchServiceTest {
+
+	@Autowired
+	private DeliveryWatchService deliveryWatchService;
+
+	@Autowired
+	private DeliverySubscriptionRepository subscriptionRepository;
+
+	@Test
+	void backsOffWhileUnchangedAndRecordsOnlyTransitions() {
+		String email = UUID.randomUUID() + "@test.com";
+		Long id = deliveryWatchService.subscribe(email, "04", "1234567890").getId();
+		Instant now = Instant.now();
+
+		// 첫 조회: 상태 기록
+		poll(id, new TrackingStatus(2, false, false, "집화처리", "서울"), now);
+		int first = interval(id);
+
+		// 같은 상태: 기록 없이 간격 두 배
+		poll(id, new TrackingStatus(2, false, false, "집화처리", "서울"), now);
+		assertThat(interval(id)).isEqualTo(first * 2);
+
+		// 조회 실패: 기록 없이 간격 두 배
+		poll(id, null, now);
+		assertThat(interval(id)).isEqualTo(first * 4);
+
+		// 상태 변경: 기록하고 최소 간격으로 복귀
+		poll(id, new TrackingStatus(3, false, false, "간선상차", "대전"), now);
+		assertThat(interval(id)).isEqualTo(first);
+
+		List<DeliveryStatusChangeDto> changes = deliveryWatchService.getChanges(email, 0L, null);
+		assertThat(changes).extracting(DeliveryStatusChangeDto::getLevel).containsExactly(2, 3);
+		assertThat(deliveryWatchService.getChanges(email, changes.get(1).getId(), null)).isEmpty();
+	}
+
+	@Test
+	void stopsPollingAtTerminalStatus() {
+		String email = UUID.randomUUID() + "@test.com";
+		Long id = deliveryWatchService.subscribe(email, "04", "9876543210").getId();
+
+		poll(id, new TrackingStatus(6, true, false, "배달완료", "부산"), Instant.now());
+
+		DeliverySubscriptionDto subscription = deliveryWatchService.getSubscriptions(email).get(0);
+		assertThat(subscription.isActive()).isFalse();
+		assertThat(subscription.getLastLevel()).isEqualTo(6);
+		assertThat(deliveryWatchService.claimDue(Instant.now().plusSeconds(86_400), 100))
+				.extracting(DeliverySubscription::getId)
+				.doesNotContain(id);
+	}
+
+	private void poll(Long id, TrackingStatus status, Instant now) {
+		deliveryWatchService.applyOutcomes(List.of(new DeliveryWatchService.PollOutcome(id, status)), now);
+	}
+
+	private int interval(Long id) {
+		return subscriptionRepository.findById(id).orElseThrow().getPollIntervalSeconds();
+	}
+}
@@ -0,0 +1,182 @@
+package my_board.board.service;
+
+import my_board.board.dto.DeliveryRequestDto;
+import my_board.board.dto.DeliveryTrackingResultDto;
+import my_board.board.entity.DeliverySubscription;
+import my_board.board.repository.DeliveryStatusChangeRepository;
+import my_board.board.repository.DeliverySubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배송 상태 구독 조회 작업 테스트
+ * - 한 주기의 조회 수는 max-polls-per-tick, 일괄 조회 한 번은 DeliveryBatchService.getMaxItems() 단위로 나뉨
+ * - 실패한 조회는 failedPollCount로 집계되고 다음 조회 시각이 미뤄짐
+ * - 선점한 구독은 선점 시간이 지나기 전까지 다시 선점되지 않음 (인스턴스 간 중복 조회 방지)
+ * 남은 구독 수를 정확히 비교해야 하므로 다른 테스트와 섞이지 않는 별도 DB 사용
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:delivery_watcher;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+		"board.delivery-watch.max-polls-per-tick=5",
+		"board.delivery-watch.claim-lease-seconds=300"
+})
+@Import(DeliveryWatcherTest.StubConfig.class)
+class DeliveryWatcherTest {
+
+	@Autowired
+	private DeliveryWatcher deliveryWatcher;
+
+	@Autowired
+	private DeliveryWatchService deliveryWatchService;
+
+	@Autowired
+	private RecordingDeliveryBatchService batchService;
+
+	@Autowired
+	private DeliverySubscriptionRepository subscriptionRepository;
+
+	@Autowired
+	private DeliveryStatusChangeRepository statusChangeRepository;
+
+	@BeforeEach
+	void setUp() {
+		statusChangeRepository.deleteAllInBatch();
+		subscriptionRepository.deleteAllInBatch();
+		batchService.batches.clear();
+	}
+
+	@Test
+	void pollsWithinBudgetInChunksAndCountsFailedLookups() {
+		// 예정 시각이 빠른 순서대로 0~6, 1번과 4번은 조회 실패
+		Instant now = Instant.now();
+		List<String> invoices = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			String invoice = (i % 3 == 1 ? "fail-" : "ok-") + i;
+			invoices.add(invoice);
+			subscribe(invoice, now.minus(7 - i, ChronoUnit.MINUTES));
+		}
+
+		// 첫 주기: 예산 5건을 2 + 2 + 1건으로 나누어 조회
+		deliveryWatcher.poll();
+		assertThat(batchService.batches).containsExactly(
+				invoices.subList(0, 2), invoices.subList(2, 4), invoices.subList(4, 5));
+		assertThat(deliveryWatcher.stats())
+				.containsEntry("tickCount", 1L)
+				.containsEntry("pollCount", 5L)
+				.containsEntry("failedPollCount", 2L)
+				.containsEntry("changeCount", 3L);
+
+		// 다음 주기: 조회한 구독은 다음 조회 시각이 미뤄졌으므로 남은 2건만 조회
+		deliveryWatcher.poll();
+		assertThat(batchService.batches).hasSize(4);
+		assertThat(batchService.batches.get(3)).isEqualTo(invoices.subList(5, 7));
+		assertThat(deliveryWatcher.stats())
+				.containsEntry("tickCount", 2L)
+				.containsEntry("pollCount", 7L)
+				.containsEntry("failedPollCount", 2L);
+
+		// 조회할 구독이 없으면 외부 조회 없이 끝냄
+		deliveryWatcher.poll();
+		assertThat(batchService.batches).hasSize(4);
+		assertThat(deliveryWatcher.stats()).containsEntry("tickCount", 2L);
+	}
+
+	@Test
+	void claimedSubscriptionsAreSkippedUntilLeaseExpires() {
+		Instant now = Instant.now();
+		for (int i = 0; i < 3; i++) {
+			subscribe("ok-" + i, now.minus(3 - i, ChronoUnit.MINUTES));
+		}
+
+		List<Long> first = ids(deliveryWatchService.claimDue(now, 2));
+		List<Long> second = ids(deliveryWatchService.claimDue(now, 10));
+
+		assertThat(first).hasSize(2);
+		assertThat(second).hasSize(1).doesNotContainAnyElementsOf(first);
+		assertThat(deliveryWatchService.claimDue(now, 10)).isEmpty();
+
+		// 결과를 반영하지 못한 채 선점 시간이 지나면 다시 조회 대상
+		assertThat(ids(deliveryWatchService.claimDue(now.plusSeconds(301), 10)))
+				.containsExactlyInAnyOrderElementsOf(concat(first, second));
+	}
+
+	private void subscribe(String invoice, Instant nextPollAt) {
+		subscriptionRepository.save(DeliverySubscription.builder()
+				.userEmail("watcher@test.com")
+				.carrier("04")
+				.invoice(invoice)
+				.active(true)
+				.pollIntervalSeconds(60)
+				.nextPollAt(nextPollAt)
+				.createdAt(nextPollAt)
+				.build());
+	}
+
+	private static List<Long> ids(List<DeliverySubscription> subscriptions) {
+		return subscriptions.stream().map(DeliverySubscription::getId).toList();
+	}
+
+	private static List<Long> concat(List<Long> a, List<Long> b) {
+		List<Long> result = new ArrayList<>(a);
+		result.addAll(b);
+		return result;
+	}
+
+	@TestConfiguration
+	static class StubConfig {
+
+		@Bean
+		@Primary
+		RecordingDeliveryBatchService recordingDeliveryBatchService() {
+			return new RecordingDeliveryBatchService();
+		}
+	}
+
+	/**
+	 * 일괄 조회 요청마다 송장번호 목록을 기록하고, "fail-"로 시작하는 송장은 조회 실패로 응답
+	 */
+	static class RecordingDeliveryBatchService extends DeliveryBatchService {
+
+		final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+		RecordingDeliveryBatchService() {
+			super(new StubDeliveryService(), 4, 100, 2, 1_000, 2_000, false);
+		}
+
+		@Override
+		public List<DeliveryTrackingResultDto> trackDeliveries(List<DeliveryRequestDto> requests) {
+			batches.add(requests.stream().map(DeliveryRequestDto::getInvoice).toList());
+			return super.trackDeliveries(requests);
+		}
+	}
+
+	static class StubDeliveryService extends DeliveryService {
+
+		StubDeliveryService() {
+			super(null, null);
+		}
+
+		@Override
+		public byte[] trackDelivery(String carrierCode, String invoiceNumber) {
+			if (invoiceNumber.startsWith("fail-")) {
+				throw new UpstreamUnavailableException("조회 실패");
+			}
+			return "{\"status\":true,\"level\":2,\"complete\":false}".getBytes(StandardCharsets.UTF_8);
+		}
+	}
+}
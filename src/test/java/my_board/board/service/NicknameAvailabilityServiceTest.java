@@ -0,0 +1,107 @@
+package my_board.board.service;
+
+import my_board.board.dto.UserRegisterDto;
+import my_board.board.entity.User;
+import my_board.board.repository.UserRepository;
+import my_board.board.support.QueryBudgetConfig;
+import my_board.board.support.QueryRecorder;
+import my_board.board.support.QueryReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 사용 가능 여부 확인 테스트
+ * - 필터에 없는 닉네임은 DB 조회 없이 "사용 가능"
+ * - 필터에 있는 닉네임은 DB(existsByNickname)로 최종 확인
+ * - 회원가입한 닉네임은 바로 필터에 반영, 다른 경로(다른 인스턴스 등)로 저장된 닉네임은 반영되지 않음
+ * - 대소문자/전각/악센트가 다른 닉네임도 같은 필터 키로 취급
+ */
+@SpringBootTest
+@Import(QueryBudgetConfig.class)
+class NicknameAvailabilityServiceTest {
+
+	@Autowired
+	private NicknameAvailabilityService nicknameAvailabilityService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void unknownNicknameIsAnsweredWithoutQuery() throws Exception {
+		QueryReport report = QueryRecorder.getInstance().record(() ->
+				assertThat(nicknameAvailabilityService.isTaken(uniqueNickname())).isFalse());
+
+		assertThat(report.statementCount()).as(report.describe()).isZero();
+	}
+
+	@Test
+	void registeredNicknameIsConfirmedInDatabase() throws Exception {
+		String nickname = uniqueNickname();
+		UserRegisterDto dto = new UserRegisterDto();
+		dto.setEmail(nickname + "@test.com");
+		dto.setPassword("password");
+		dto.setNickname(nickname);
+		userService.register(dto);
+
+		QueryReport report = QueryRecorder.getInstance().record(() ->
+				assertThat(nicknameAvailabilityService.isTaken(nickname)).isTrue());
+
+		assertThat(report.statementCount()).as(report.describe()).isEqualTo(1);
+	}
+
+	@Test
+	void filterOnlyLearnsNicknamesRegisteredThroughIt() {
+		// 다른 인스턴스에서 가입한 경우처럼 필터를 거치지 않고 저장
+		String nickname = uniqueNickname();
+		userRepository.save(User.builder()
+				.email(nickname + "@test.com")
+				.password("unused")
+				.nickname(nickname)
+				.role("ROLE_USER")
+				.build());
+		assertThat(nicknameAvailabilityService.isTaken(nickname)).isFalse();
+
+		nicknameAvailabilityService.register(nickname);
+		assertThat(nicknameAvailabilityService.isTaken(nickname)).isTrue();
+	}
+
+	@Test
+	void caseWidthAndAccentVariantsShareFilterKey() throws Exception {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		nicknameAvailabilityService.register("Café-" + suffix);
+
+		// 필터에 있다고 판단되어 DB로 넘어가야 함 (DB 조회 1회)
+		for (String variant : new String[]{
+				"cafe-" + suffix,
+				"CAFÉ-" + suffix.toUpperCase(Locale.ROOT) + " ",
+				fullWidth("cafe-" + suffix)}) {
+			QueryReport report = QueryRecorder.getInstance().record(() -> nicknameAvailabilityService.isTaken(variant));
+			assertThat(report.statementCount()).as(variant).isEqualTo(1);
+		}
+	}
+
+	private static String uniqueNickname() {
+		return "nick-" + UUID.randomUUID();
+	}
+
+	/**
+	 * ASCII 문자를 전각 문자로 변환 (NFKD 정규화 시 다시 ASCII가 됨)
+	 */
+	private static String fullWidth(String value) {
+		StringBuilder result = new StringBuilder();
+		for (char c : value.toCharArray()) {
+			result.append(c >= '!' && c <= '~' ? (char) (c + 0xFEE0) : c);
+		}
+		return result.toString();
+	}
+}
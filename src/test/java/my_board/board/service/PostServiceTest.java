@@ -0,0 +1,172 @@
+package my_board.board.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import my_board.board.dto.PostUpdateDto;
+import my_board.board.entity.Comment;
+import my_board.board.entity.Post;
+import my_board.board.entity.User;
+import my_board.board.repository.CommentRepository;
+import my_board.board.repository.PostRepository;
+import my_board.board.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "board.post-delete.comment-batch-size=" + PostServiceTest.COMMENT_BATCH_SIZE)
+class PostServiceTest {
+
+	static final int COMMENT_BATCH_SIZE = 100;
+
+	private static final AtomicInteger SEQ = new AtomicInteger();
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PostViewCounter postViewCounter;
+
+	@Test
+	void deleteIssuesStatementsPerCommentChunkNotPerComment() {
+		// 묶음 크기 이하: 한 묶음
+		assertDeletedWithChunks(createThreadWithReplies(10), 1);
+		// 묶음 크기 이상: 경계 ID가 있는 묶음 2개 + 나머지 50개
+		assertDeletedWithChunks(createThreadWithReplies(COMMENT_BATCH_SIZE * 2 + 50), 3);
+	}
+
+	@Test
+	void deleteTreatsNonPositiveBatchSizeAsOne() {
+		ReflectionTestUtils.setField(postService, "commentDeleteBatchSize", 0);
+		try {
+			// 한 건씩 묶음 4개 + 남은 댓글이 없는 마지막 묶음
+			assertDeletedWithChunks(createThreadWithReplies(4), 5);
+		} finally {
+			ReflectionTestUtils.setField(postService, "commentDeleteBatchSize", COMMENT_BATCH_SIZE);
+		}
+	}
+
+	@Test
+	void deleteReturnsFalseForMissingPost() {
+		assertThat(postService.delete(Long.MAX_VALUE)).isFalse();
+	}
+
+	@Test
+	void updateKeepsCommentCountChangedWhileEditing() {
+		Long postId = createThreadWithReplies(0);
+
+		inEditTransaction(postId, () -> postRepository.incrementCommentCount(postId));
+
+		assertThat(jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, postId))
+				.isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("select title from post where id = ?", String.class, postId))
+				.isEqualTo("edited");
+	}
+
+	@Test
+	void updateKeepsViewCountFlushedWhileEditing() {
+		Long postId = createThreadWithReplies(0);
+		postViewCounter.increment(postId);
+		postViewCounter.increment(postId);
+
+		inEditTransaction(postId, postViewCounter::flush);
+
+		assertThat(jdbcTemplate.queryForObject("select view_count from post where id = ?", Long.class, postId))
+				.isEqualTo(2);
+	}
+
+	/**
+	 * 잠금 조회, 게시글 삭제 2회 + 묶음마다 경계 ID 조회, 답글의 부모 참조 제거, 댓글 삭제 3회
+	 */
+	private void assertDeletedWithChunks(Long postId, int chunks) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThat(postService.delete(postId)).isTrue();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2 + 3L * chunks);
+		assertThat(postRepository.existsById(postId)).isFalse();
+		assertThat(jdbcTemplate.queryForObject("select count(*) from comments where post_id = ?", Long.class, postId))
+				.isZero();
+	}
+
+	/**
+	 * 게시글을 읽어 수정한 트랜잭션이 커밋되기 전에 다른 트랜잭션에서 concurrentChange를 실행하고 커밋
+	 */
+	private void inEditTransaction(Long postId, Runnable concurrentChange) {
+		TransactionTemplate edit = new TransactionTemplate(transactionManager);
+		TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+		concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		PostUpdateDto dto = new PostUpdateDto();
+		dto.setTitle("edited");
+		dto.setContent("edited content");
+
+		edit.executeWithoutResult(status -> {
+			postService.update(postId, dto);
+			concurrent.executeWithoutResult(inner -> concurrentChange.run());
+		});
+	}
+
+	/**
+	 * 댓글 절반이 앞 댓글의 답글인 게시글 생성
+	 */
+	private Long createThreadWithReplies(int commentCount) {
+		int seq = SEQ.incrementAndGet();
+		User author = userRepository.save(User.builder()
+				.email("deleter" + seq + "@test.com")
+				.password("password")
+				.nickname("deleter" + seq)
+				.role("ROLE_USER")
+				.build());
+
+		Post post = postRepository.save(Post.builder()
+				.title("thread " + seq)
+				.content("content")
+				.email(author.getEmail())
+				.nickname(author.getNickname())
+				.build());
+
+		List<Comment> roots = new ArrayList<>();
+		for (int i = 0; i < commentCount / 2; i++) {
+			roots.add(Comment.create(post, author, null, "comment " + i));
+		}
+		commentRepository.saveAll(roots);
+
+		List<Comment> replies = new ArrayList<>();
+		for (int i = 0; i < commentCount - roots.size(); i++) {
+			replies.add(Comment.create(post, author, roots.get(i % roots.size()), "reply " + i));
+		}
+		commentRepository.saveAll(replies);
+		return post.getId();
+	}
+}
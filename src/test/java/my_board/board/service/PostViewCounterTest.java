@@ -0,0 +1,105 @@
+package my_board.board.service;
+
+import my_board.board.cache.PostDetailCache;
+import my_board.board.entity.Post;
+import my_board.board.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PostViewCounterTest {
+
+	@Autowired
+	private PostViewCounter postViewCounter;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PostDetailCache postDetailCache;
+
+	@Test
+	void concurrentViewsAreAggregatedAndFlushedExactly() throws Exception {
+		Long id = createPost();
+		int threads = 8;
+		int viewsPerThread = 500;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < viewsPerThread; j++) {
+						postService.viewPost(id);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// 반영 전: DB와 캐시된 상세는 그대로, 조회수는 메모리에만 존재
+		assertThat(viewCountInDb(id)).isZero();
+		assertThat(postService.getPost(id).getViewCount()).isZero();
+		assertThat(postViewCounter.pending(id)).isEqualTo(threads * viewsPerThread);
+
+		Object loadsBeforeFlush = postDetailCache.stats().get("loadCount");
+		postViewCounter.flush();
+
+		assertThat(viewCountInDb(id)).isEqualTo(threads * viewsPerThread);
+		assertThat(postViewCounter.pending(id)).isZero();
+		// 반영 후 캐시된 상세의 조회수가 갱신되어 DB 값 + 이번 조회 1회 (캐시 제거/재조회 없음)
+		assertThat(postService.viewPost(id).getViewCount()).isEqualTo(threads * viewsPerThread + 1);
+		assertThat(postDetailCache.stats().get("loadCount")).isEqualTo(loadsBeforeFlush);
+	}
+
+	@Test
+	void pendingViewsAreFlushedOnShutdownAndLostOtherwise() {
+		Long id = createPost();
+
+		postViewCounter.increment(id);
+		postViewCounter.increment(id);
+		postViewCounter.flushOnShutdown();
+		assertThat(viewCountInDb(id)).isEqualTo(2);
+
+		// 마지막 반영 이후의 조회수는 반영 전까지 메모리에만 존재 (비정상 종료 시 유실 범위)
+		postViewCounter.increment(id);
+		assertThat(viewCountInDb(id)).isEqualTo(2);
+		assertThat(postViewCounter.pending(id)).isEqualTo(1);
+
+		postViewCounter.flush();
+		assertThat(viewCountInDb(id)).isEqualTo(3);
+	}
+
+	private Long createPost() {
+		return postRepository.save(Post.builder()
+				.title("조회수 테스트")
+				.content("내용")
+				.email("viewer@test.com")
+				.nickname("viewer")
+				.build()).getId();
+	}
+
+	private long viewCountInDb(Long id) {
+		return jdbcTemplate.queryForObject("select view_count from post where id = ?", Long.class, id);
+	}
+}
@@ -0,0 +1,180 @@
+package my_board.board.service;
+
+import com.sun.net.httpserver.HttpServer;
+import my_board.board.config.RestTemplateConfig;
+import my_board.board.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버로 외부 API의 지연/오류를 재현하여
+ * 타임아웃, 서킷 브레이커, 동시 호출 제한이 요청 스레드를 보호하는지 검증
+ */
+class SweetTrackerClientTest {
+
+	private static final String OK_BODY = "{\"level\":6,\"complete\":true}";
+
+	private HttpServer server;
+
+	private ExecutorService serverExecutor;
+
+	private final AtomicReference<String> mode = new AtomicReference<>("ok");
+
+	private final AtomicLong delayMillis = new AtomicLong();
+
+	private final AtomicInteger hits = new AtomicInteger();
+
+	@BeforeEach
+	void startServer() throws Exception {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api/v1/trackingInfo", exchange -> {
+			hits.incrementAndGet();
+			try {
+				if (delayMillis.get() > 0) {
+					Thread.sleep(delayMillis.get());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			int status = "error".equals(mode.get()) ? 500 : 200;
+			byte[] body = (status == 200 ? OK_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			} catch (Exception ignored) {
+				// 클라이언트가 타임아웃으로 먼저 끊은 경우
+			}
+		});
+		serverExecutor = Executors.newFixedThreadPool(32);
+		server.setExecutor(serverExecutor);
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	@Test
+	void upstreamBodyIsReturnedAsRawBytes() {
+		SweetTrackerClient client = client(1_000, 20, 10);
+
+		byte[] body = client.track("04", "123");
+
+		assertThat(body).isEqualTo(OK_BODY.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void slowUpstreamIsCutOffByResponseTimeout() {
+		SweetTrackerClient client = client(300, 20, 10);
+		delayMillis.set(2_000);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> client.track("04", "123"))
+				.isInstanceOf(UpstreamUnavailableException.class);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 외부 API 지연(2초)과 무관하게 응답 타임아웃 근처에서 반환
+		assertThat(elapsedMillis).isLessThan(1_500);
+	}
+
+	@Test
+	void repeatedFailuresOpenTheCircuitAndFailFastWithoutCallingUpstream() {
+		SweetTrackerClient client = client(1_000, 20, 10);
+		mode.set("error");
+
+		for (int i = 0; i < 10; i++) {
+			assertThatThrownBy(() -> client.track("04", "123"))
+					.isInstanceOf(UpstreamUnavailableException.class);
+		}
+		assertThat(circuitState(client)).isEqualTo(CircuitBreaker.State.OPEN.name());
+		int hitsWhenOpened = hits.get();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 100; i++) {
+			assertThatThrownBy(() -> client.track("04", "123"))
+					.isInstanceOf(UpstreamUnavailableException.class);
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 차단 중에는 외부 API를 호출하지 않고 즉시 실패
+		assertThat(hits.get()).isEqualTo(hitsWhenOpened);
+		assertThat(elapsedMillis).isLessThan(500);
+	}
+
+	@Test
+	void bulkheadRejectsCallsBeyondConcurrencyLimit() throws Exception {
+		SweetTrackerClient client = client(3_000, 2, 100);
+		delayMillis.set(500);
+
+		ExecutorService callers = Executors.newFixedThreadPool(10);
+		CountDownLatch ready = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger succeeded = new AtomicInteger();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				futures.add(callers.submit(() -> {
+					ready.await();
+					try {
+						client.track("04", "123");
+						succeeded.incrementAndGet();
+					} catch (UpstreamUnavailableException e) {
+						rejected.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			ready.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			callers.shutdownNow();
+		}
+
+		// 동시 호출 2건만 외부 API로 나가고 나머지는 대기 없이 거절
+		assertThat(succeeded.get()).isEqualTo(2);
+		assertThat(rejected.get()).isEqualTo(8);
+		assertThat(hits.get()).isEqualTo(2);
+		// 동시 호출 제한 거절은 외부 API 장애가 아니므로 차단하지 않음
+		assertThat(circuitState(client)).isEqualTo(CircuitBreaker.State.CLOSED.name());
+	}
+
+	private SweetTrackerClient client(long readTimeoutMillis, int maxConcurrentCalls, long bulkheadWaitMillis) {
+		RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+				RestTemplateConfig.httpClient(20, 20, 500, readTimeoutMillis, 500, 30)));
+		String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		return new SweetTrackerClient(restTemplate, "test-key", baseUrl,
+				maxConcurrentCalls, bulkheadWaitMillis, 20, 10, 0.5, 60_000);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static String circuitState(SweetTrackerClient client) {
+		Map<String, Object> breaker = (Map<String, Object>) client.stats().get("circuitBreaker");
+		return (String) breaker.get("state");
+	}
+}
@@ -0,0 +1,64 @@
+package my_board.board.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 패스별 쿼리 예산 검증
+ * 코드 블록이 실행하는 SQL 수와 SQL 한 건의 실행 시간이 예산 안인지 확인
+ *
+ * 사용 예:
+ * <pre>
+ * QueryBudget.of("CommentService.getComments")
+ *         .maxStatements(2)
+ *         .maxStatementMillis(200)
+ *         .verify(() -> commentService.getComments(postId));
+ * </pre>
+ *
+ * QueryBudgetConfig를 @Import한 테스트에서만 SQL이 기록됨
+ */
+public class QueryBudget {
+
+	/**
+	 * SQL 한 건 실행 시간 기본 예산 (밀리초)
+	 */
+	private static final long DEFAULT_MAX_STATEMENT_MILLIS = 500;
+
+	private final String name;
+	private int maxStatements = Integer.MAX_VALUE;
+	private long maxStatementMillis = DEFAULT_MAX_STATEMENT_MILLIS;
+
+	private QueryBudget(String name) {
+		this.name = name;
+	}
+
+	public static QueryBudget of(String name) {
+		return new QueryBudget(name);
+	}
+
+	public QueryBudget maxStatements(int maxStatements) {
+		this.maxStatements = maxStatements;
+		return this;
+	}
+
+	public QueryBudget maxStatementMillis(long maxStatementMillis) {
+		this.maxStatementMillis = maxStatementMillis;
+		return this;
+	}
+
+	/**
+	 * 블록을 실행하고 예산을 넘으면 실패
+	 *
+	 * @param block 측정할 코드
+	 * @return 기록 결과 (추가 검증용)
+	 */
+	public QueryReport verify(QueryRecorder.ThrowingRunnable block) throws Exception {
+		QueryReport report = QueryRecorder.getInstance().record(block);
+		assertThat(report.statementCount())
+				.as("%s 쿼리 수 예산 초과 (최대 %d회)%n%s", name, maxStatements, report.describe())
+				.isLessThanOrEqualTo(maxStatements);
+		assertThat(report.slowestMillis())
+				.as("%s 느린 쿼리 예산 초과 (최대 %dms)%n%s", name, maxStatementMillis, report.describe())
+				.isLessThanOrEqualTo(maxStatementMillis);
+		return report;
+	}
+}
@@ -0,0 +1,38 @@
+package my_board.board.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 쿼리 예산 테스트용 설정
+ * 애플리케이션의 DataSource를 JDBC 프록시로 감싸 모든 SQL 실행을 QueryRecorder에 전달
+ * (느린 쿼리 로그 설정이 이미 프록시로 감쌌다면 리스너만 추가)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryBudgetConfig {
+
+	@Bean
+	static BeanPostProcessor queryRecordingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof ProxyDataSource proxy) {
+					proxy.getProxyConfig().getQueryListener().addListener(QueryRecorder.getInstance());
+					return bean;
+				}
+				if (bean instanceof DataSource dataSource) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name(beanName)
+							.listener(QueryRecorder.getInstance())
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+}
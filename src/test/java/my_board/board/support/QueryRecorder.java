@@ -0,0 +1,72 @@
+package my_board.board.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 프록시에서 호출되는 SQL 실행 기록기
+ * record() 블록이 실행되는 동안 같은 스레드에서 실행된 SQL만 기록
+ * (MockMvc, 서비스 직접 호출 모두 호출 스레드에서 SQL이 실행되므로 다른 테스트 데이터 준비 쿼리와 섞이지 않음)
+ */
+public final class QueryRecorder implements QueryExecutionListener {
+
+	private static final QueryRecorder INSTANCE = new QueryRecorder();
+
+	private final ThreadLocal<List<RecordedStatement>> current = new ThreadLocal<>();
+
+	private QueryRecorder() {
+	}
+
+	public static QueryRecorder getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * 블록 실행 중 발생한 SQL을 기록
+	 *
+	 * @param block 측정할 코드
+	 * @return 기록 결과
+	 */
+	public QueryReport record(ThrowingRunnable block) throws Exception {
+		List<RecordedStatement> statements = new ArrayList<>();
+		List<RecordedStatement> previous = current.get();
+		current.set(statements);
+		try {
+			block.run();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+		return new QueryReport(statements);
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		List<RecordedStatement> statements = current.get();
+		if (statements == null) {
+			return;
+		}
+		String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+		int batchSize = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : 1;
+		statements.add(new RecordedStatement(sql, execInfo.getElapsedTime(), batchSize));
+	}
+
+	/**
+	 * 예외를 던질 수 있는 실행 블록 (MockMvc.perform 등)
+	 */
+	@FunctionalInterface
+	public interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,52 @@
+package my_board.board.support;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * QueryRecorder가 기록한 SQL 실행 결과
+ */
+public class QueryReport {
+
+	private final List<RecordedStatement> statements;
+
+	QueryReport(List<RecordedStatement> statements) {
+		this.statements = List.copyOf(statements);
+	}
+
+	public List<RecordedStatement> statements() {
+		return statements;
+	}
+
+	/**
+	 * JDBC 왕복 횟수 (배치는 1회로 계산)
+	 */
+	public int statementCount() {
+		return statements.size();
+	}
+
+	/**
+	 * 가장 오래 걸린 SQL 실행 시간 (밀리초)
+	 */
+	public long slowestMillis() {
+		return statements.stream().mapToLong(RecordedStatement::elapsedMillis).max().orElse(0L);
+	}
+
+	/**
+	 * 전체 SQL 실행 시간 합계 (밀리초)
+	 */
+	public long totalMillis() {
+		return statements.stream().mapToLong(RecordedStatement::elapsedMillis).sum();
+	}
+
+	/**
+	 * 실패 메시지용 요약 (느린 순)
+	 */
+	public String describe() {
+		return statements.stream()
+				.sorted(Comparator.comparingLong(RecordedStatement::elapsedMillis).reversed())
+				.map(s -> "  [" + s.elapsedMillis() + "ms x" + s.batchSize() + "] " + s.sql())
+				.collect(Collectors.joining("\n"));
+	}
+}
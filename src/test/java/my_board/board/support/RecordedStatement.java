@@ -0,0 +1,11 @@
+package my_board.board.support;
+
+/**
+ * 기록된 SQL 실행 한 건
+ *
+ * @param sql           실행된 SQL (배치면 첫 번째 쿼리)
+ * @param elapsedMillis 실행 시간 (밀리초)
+ * @param batchSize     배치 크기 (배치가 아니면 1)
+ */
+public record RecordedStatement(String sql, long elapsedMillis, int batchSize) {
+}
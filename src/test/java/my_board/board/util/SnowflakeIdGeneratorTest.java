@@ -0,0 +1,73 @@
+package my_board.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+	@Test
+	void idsAreUniqueIncreasingAndFitInFiftyThreeBits() throws Exception {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+		int threads = 8;
+		int idsPerThread = 20_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					List<Long> ids = new ArrayList<>(idsPerThread);
+					for (int j = 0; j < idsPerThread; j++) {
+						ids.add(generator.nextId());
+					}
+					return ids;
+				}));
+			}
+
+			Set<Long> all = new HashSet<>();
+			for (Future<List<Long>> future : futures) {
+				List<Long> ids = future.get();
+				// 한 스레드 안에서는 항상 증가
+				for (int j = 1; j < ids.size(); j++) {
+					assertThat(ids.get(j)).isGreaterThan(ids.get(j - 1));
+				}
+				all.addAll(ids);
+			}
+
+			assertThat(all).hasSize(threads * idsPerThread);
+			assertThat(all).allSatisfy(id -> {
+				assertThat(id).isPositive().isLessThan(1L << 53);
+				assertThat((id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(3);
+			});
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void idEncodesCreationTime() {
+		Instant before = Instant.now();
+		long id = new SnowflakeIdGenerator(0).nextId();
+
+		assertThat(Duration.between(before, SnowflakeIdGenerator.timestampOf(id)).abs())
+				.isLessThan(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void rejectsNodeIdOutOfRange() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,49 @@
+package my_board.board.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringBloomFilterTest {
+
+	@Test
+	void neverReportsAddedValueAsAbsent() {
+		StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("member-" + i);
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("member-" + i)).isTrue();
+		}
+		assertThat(filter.insertionCount()).isEqualTo(10_000);
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("member-" + i);
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("stranger-" + i)) {
+				falsePositives++;
+			}
+		}
+		// 목표 1%, 해시 편차를 감안해 2%까지 허용
+		assertThat(falsePositives / (double) probes).isLessThan(0.02);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		StringBloomFilter filter = new StringBloomFilter(1_000, 0.01);
+
+		assertThat(filter.mightContain("")).isFalse();
+		assertThat(filter.mightContain("anything")).isFalse();
+		assertThat(filter.hashCount()).isPositive();
+		assertThat(filter.bitSize()).isPositive();
+	}
+}